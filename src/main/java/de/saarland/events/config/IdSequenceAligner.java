@@ -0,0 +1,51 @@
+package de.saarland.events.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Moves the ID sequences past the IDs already in their tables. Rows written while the tables still used identity
+ * columns are unknown to the sequences that {@code ddl-auto} creates, so without this the first pooled block would
+ * collide with existing rows. Runs once the schema is in place and before the application accepts requests.
+ */
+@Component
+public class IdSequenceAligner implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(IdSequenceAligner.class);
+
+    private static final Map<String, String> SEQUENCE_TABLES = Map.of(
+            JdbcBatchingConfig.EVENT_SEQUENCE, "events",
+            JdbcBatchingConfig.TRANSLATION_SEQUENCE, "translations");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Dialect dialect;
+
+    public IdSequenceAligner(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        SEQUENCE_TABLES.forEach(this::align);
+    }
+
+    private void align(String sequence, String table) {
+        Long next = jdbcTemplate.queryForObject(dialect.getSequenceSupport().getSequenceNextValString(sequence), Long.class);
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        // A pooled block ends at the sequence value, so the next value must clear the highest ID by a whole block.
+        if (next != null && maxId != null && next <= maxId + JdbcBatchingConfig.ID_ALLOCATION_SIZE) {
+            long restart = maxId + JdbcBatchingConfig.ID_ALLOCATION_SIZE + 1;
+            jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + restart);
+            log.info("Sequence {} restarted at {} to clear existing {} IDs.", sequence, restart, table);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package de.saarland.events.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JDBC batching for inserts. Events and translations take their IDs from pooled sequences instead of identity
+ * columns, so Hibernate can defer their inserts to flush time and send them as batches; ordering the inserts keeps
+ * an event and its translations from interrupting each other's batches.
+ */
+@Configuration
+public class JdbcBatchingConfig {
+
+    public static final String EVENT_SEQUENCE = "events_seq";
+    public static final String TRANSLATION_SEQUENCE = "translations_seq";
+    // IDs handed out per sequence call; must match the sequences' INCREMENT BY.
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingCustomizer(@Value("${app.jpa.batch-size:50}") int batchSize) {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.put(AvailableSettings.ORDER_INSERTS, true);
+            properties.put(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
+}
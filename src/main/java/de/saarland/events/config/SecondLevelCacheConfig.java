@@ -0,0 +1,73 @@
+package de.saarland.events.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hibernate second-level cache backed by Caffeine through JCache. Every region used by an {@code @Cache} mapping is
+ * created here with an explicit size and time-to-live; a mapping without a region configured here fails at startup.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    public static final String EVENTS = "events";
+    public static final String EVENT_TRANSLATIONS = "events.translations";
+    public static final String TRANSLATIONS = "translations";
+    public static final String CITIES = "cities";
+    public static final String CATEGORIES = "categories";
+
+    // An event rarely has more than a handful of translations (de, en, uk, ...).
+    private static final int TRANSLATIONS_PER_EVENT = 4;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${app.cache.events.max-entries:5000}") long eventEntries,
+            @Value("${app.cache.events.ttl-minutes:60}") long eventTtlMinutes,
+            @Value("${app.cache.reference.max-entries:1000}") long referenceEntries,
+            @Value("${app.cache.reference.ttl-minutes:1440}") long referenceTtlMinutes) {
+        // The provider's default manager is shared JVM-wide; a private URI keeps the regions owned by this context.
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("urn:saarland-events:second-level-cache:" + UUID.randomUUID()), provider.getDefaultClassLoader());
+        createRegion(cacheManager, EVENTS, eventEntries, eventTtlMinutes);
+        createRegion(cacheManager, EVENT_TRANSLATIONS, eventEntries, eventTtlMinutes);
+        createRegion(cacheManager, TRANSLATIONS, eventEntries * TRANSLATIONS_PER_EVENT, eventTtlMinutes);
+        createRegion(cacheManager, CITIES, referenceEntries, referenceTtlMinutes);
+        createRegion(cacheManager, CATEGORIES, referenceEntries, referenceTtlMinutes);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            // Needed for the per-region hit/miss counters in CacheStatisticsService.
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    private static void createRegion(CacheManager cacheManager, String name, long maxEntries, long ttlMinutes) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxEntries));
+        configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.MINUTES.toNanos(ttlMinutes)));
+        configuration.setStatisticsEnabled(true);
+        cacheManager.createCache(name, configuration);
+    }
+}
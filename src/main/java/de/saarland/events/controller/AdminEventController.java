@@ -5,59 +5,78 @@ import de.saarland.events.mapper.EventMapper;
 import de.saarland.events.model.EStatus;
 import de.saarland.events.model.Event;
 import de.saarland.events.security.services.UserDetailsImpl;
+import de.saarland.events.service.EventExportService;
+import de.saarland.events.service.EventImportService;
 import de.saarland.events.service.EventService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/admin/events")
 public class AdminEventController {
 
     private final EventService eventService;
+    private final EventExportService eventExportService;
+    private final EventImportService eventImportService;
     private final EventMapper eventMapper;
 
-    public AdminEventController(EventService eventService, EventMapper eventMapper) {
+    public AdminEventController(EventService eventService, EventExportService eventExportService, EventImportService eventImportService, EventMapper eventMapper) {
         this.eventService = eventService;
+        this.eventExportService = eventExportService;
+        this.eventImportService = eventImportService;
         this.eventMapper = eventMapper;
     }
 
     @GetMapping("/by-city/{cityName}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Page<EventResponseDto>> getAdminEventsByCity(@PathVariable String cityName, Pageable pageable) {
-        Page<Event> eventsPage = eventService.findAllAdminEventsByCity(cityName, pageable);
-        Page<EventResponseDto> dtoPage = eventsPage.map(eventMapper::toResponseDto);
+    public ResponseEntity<?> getAdminEventsByCity(@PathVariable String cityName, @RequestParam Optional<String> cursor, @RequestParam Optional<String> count, Pageable pageable) {
+        if (cursor.isPresent()) {
+            CursorPageDto<EventResponseDto> eventsWindow = eventService.findAllAdminEventsByCityAfter(cityName, EventController.decodeCursor(cursor.get()), pageable.getPageSize());
+            return ResponseEntity.ok(eventsWindow);
+        }
+        Slice<EventResponseDto> dtoPage = eventService.findAllAdminEventsByCity(cityName, pageable, CountMode.from(count.orElse(null)));
         return ResponseEntity.ok(dtoPage);
     }
 
     @GetMapping("/by-city/{cityName}/past")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Page<EventResponseDto>> getAdminEventsByCityPast(@PathVariable String cityName, Pageable pageable) {
-        Page<Event> eventsPage = eventService.findAllAdminEventsByCityPast(cityName, pageable);
-        Page<EventResponseDto> dtoPage = eventsPage.map(eventMapper::toResponseDto);
+    public ResponseEntity<?> getAdminEventsByCityPast(@PathVariable String cityName, @RequestParam Optional<String> cursor, @RequestParam Optional<String> count, Pageable pageable) {
+        if (cursor.isPresent()) {
+            CursorPageDto<EventResponseDto> eventsWindow = eventService.findAllAdminEventsByCityPastAfter(cityName, EventController.decodeCursor(cursor.get()), pageable.getPageSize());
+            return ResponseEntity.ok(eventsWindow);
+        }
+        Slice<EventResponseDto> dtoPage = eventService.findAllAdminEventsByCityPast(cityName, pageable, CountMode.from(count.orElse(null)));
         return ResponseEntity.ok(dtoPage);
     }
 
     @GetMapping("/by-city/{cityName}/upcoming")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Page<EventResponseDto>> getAdminEventsByCityUpcoming(@PathVariable String cityName, Pageable pageable) {
-        Page<Event> eventsPage = eventService.findAllAdminEventsByCityUpcoming(cityName, pageable);
-        Page<EventResponseDto> dtoPage = eventsPage.map(eventMapper::toResponseDto);
+    public ResponseEntity<?> getAdminEventsByCityUpcoming(@PathVariable String cityName, @RequestParam Optional<String> cursor, @RequestParam Optional<String> count, Pageable pageable) {
+        if (cursor.isPresent()) {
+            CursorPageDto<EventResponseDto> eventsWindow = eventService.findAllAdminEventsByCityUpcomingAfter(cityName, EventController.decodeCursor(cursor.get()), pageable.getPageSize());
+            return ResponseEntity.ok(eventsWindow);
+        }
+        Slice<EventResponseDto> dtoPage = eventService.findAllAdminEventsByCityUpcoming(cityName, pageable, CountMode.from(count.orElse(null)));
         return ResponseEntity.ok(dtoPage);
     }
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Page<EventResponseDto>> getAllEventsForAdmin(Pageable pageable) {
-        Page<Event> eventsPage = eventService.findAllEventsForAdmin(pageable);
-        return ResponseEntity.ok(eventsPage.map(eventMapper::toResponseDto));
+    public ResponseEntity<Slice<EventResponseDto>> getAllEventsForAdmin(@RequestParam Optional<String> count, Pageable pageable) {
+        return ResponseEntity.ok(eventService.findAllEventsForAdmin(pageable, CountMode.from(count.orElse(null))));
     }
 
     @GetMapping("/by-city-count")
@@ -74,7 +93,7 @@ public class AdminEventController {
 
         Event eventToCreate = eventMapper.toEntity(eventRequestDto);
         Event createdEvent = eventService.createEvent(eventToCreate, eventRequestDto.getCategoryId(), eventRequestDto.getCityId(), userId);
-        EventResponseDto responseDto = eventMapper.toResponseDto(createdEvent);
+        EventResponseDto responseDto = toModerationDto(createdEvent);
         return new ResponseEntity<>(responseDto, HttpStatus.CREATED);
     }
 
@@ -91,7 +110,7 @@ public class AdminEventController {
     public ResponseEntity<EventResponseDto> updateEvent(@PathVariable Long id, @Valid @RequestBody EventUpdateDto eventUpdateDto) {
         Event eventData = eventMapper.toEntity(eventUpdateDto);
         Event updatedEvent = eventService.updateEvent(id, eventData, eventUpdateDto.getCategoryId(), eventUpdateDto.getCityId());
-        EventResponseDto responseDto = eventMapper.toResponseDto(updatedEvent);
+        EventResponseDto responseDto = toModerationDto(updatedEvent);
         return ResponseEntity.ok(responseDto);
     }
 
@@ -100,7 +119,7 @@ public class AdminEventController {
     public ResponseEntity<EventResponseDto> updateEventStatus(@PathVariable Long id, @RequestBody StatusUpdateRequest request) {
         EStatus newStatus = EStatus.valueOf(request.getStatus().toUpperCase());
         Event updatedEvent = eventService.updateEventStatus(id, newStatus);
-        return ResponseEntity.ok(eventMapper.toResponseDto(updatedEvent));
+        return ResponseEntity.ok(toModerationDto(updatedEvent));
     }
 
     @GetMapping("/stats")
@@ -109,4 +128,28 @@ public class AdminEventController {
         AdminStatsDto stats = eventService.getAdminStatistics();
         return ResponseEntity.ok(stats);
     }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public void exportEvents(@RequestParam Optional<String> format, HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = ExportFormat.from(format.orElse(null));
+        response.setContentType(exportFormat.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"events." + exportFormat.getExtension() + "\"");
+        eventExportService.export(exportFormat, response.getOutputStream());
+    }
+
+    @PostMapping("/import")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<EventImportReportDto> importEvents(@RequestParam Optional<String> format, HttpServletRequest request, Authentication authentication) throws IOException {
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        ImportFormat importFormat = ImportFormat.from(format.orElse(null), request.getContentType());
+        EventImportReportDto report = eventImportService.importEvents(importFormat, request.getInputStream(), userDetails.getId());
+        return ResponseEntity.ok(report);
+    }
+
+    private EventResponseDto toModerationDto(Event event) {
+        EventResponseDto dto = eventMapper.toResponseDto(event);
+        dto.setNearDuplicates(eventService.findNearDuplicates(event));
+        return dto;
+    }
 }
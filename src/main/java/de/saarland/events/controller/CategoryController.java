@@ -1,37 +1,37 @@
 package de.saarland.events.controller;
 
 import de.saarland.events.dto.CategoryDto;
-import de.saarland.events.mapper.CategoryMapper;
-import de.saarland.events.service.CategoryService;
+import de.saarland.events.service.DataVersionRegistry;
+import de.saarland.events.service.ReferenceDataRegistry;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/categories")
 public class CategoryController {
 
-    private final CategoryService categoryService;
-    private final CategoryMapper categoryMapper;
+    private final ReferenceDataRegistry referenceDataRegistry;
+    private final DataVersionRegistry dataVersionRegistry;
 
-    public CategoryController(CategoryService categoryService, CategoryMapper categoryMapper) {
-        this.categoryService = categoryService;
-        this.categoryMapper = categoryMapper;
+    public CategoryController(ReferenceDataRegistry referenceDataRegistry, DataVersionRegistry dataVersionRegistry) {
+        this.referenceDataRegistry = referenceDataRegistry;
+        this.dataVersionRegistry = dataVersionRegistry;
     }
 
     @GetMapping
-    public ResponseEntity<List<CategoryDto>> getAllCategories() {
-
-
-        List<CategoryDto> categories = categoryService.getAllCategories().stream()
-                .map(categoryMapper::toDto)
-
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(categories);
+    public ResponseEntity<List<CategoryDto>> getAllCategories(WebRequest request) {
+        DataVersionRegistry.Validator validator = dataVersionRegistry.categories();
+        if (request.checkNotModified(validator.etag(), validator.lastModified())) {
+            return null;
+        }
+        List<CategoryDto> categories = referenceDataRegistry.categories();
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(categories);
 
 
     }
@@ -3,35 +3,36 @@
 package de.saarland.events.controller;
 
 import de.saarland.events.dto.CityDto;
-import de.saarland.events.mapper.CityMapper;
-import de.saarland.events.service.CityService;
+import de.saarland.events.service.DataVersionRegistry;
+import de.saarland.events.service.ReferenceDataRegistry;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/cities")
 public class CityController {
 
-    private final CityService cityService;
-    private final CityMapper cityMapper;
+    private final ReferenceDataRegistry referenceDataRegistry;
+    private final DataVersionRegistry dataVersionRegistry;
 
-    public CityController(CityService cityService, CityMapper cityMapper) {
-        this.cityService = cityService;
-        this.cityMapper = cityMapper;
+    public CityController(ReferenceDataRegistry referenceDataRegistry, DataVersionRegistry dataVersionRegistry) {
+        this.referenceDataRegistry = referenceDataRegistry;
+        this.dataVersionRegistry = dataVersionRegistry;
     }
 
     @GetMapping
-    public ResponseEntity<List<CityDto>> getAllCities() {
-        // Получаем все города из сервиса
-        List<CityDto> cities = cityService.getAllCities().stream()
-                .map(cityMapper::toDto)
-                .collect(Collectors.toList());
-
-        return ResponseEntity.ok(cities);
+    public ResponseEntity<List<CityDto>> getAllCities(WebRequest request) {
+        DataVersionRegistry.Validator validator = dataVersionRegistry.cities();
+        if (request.checkNotModified(validator.etag(), validator.lastModified())) {
+            return null;
+        }
+        List<CityDto> cities = referenceDataRegistry.cities();
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(cities);
     }
 }
\ No newline at end of file
@@ -1,46 +1,161 @@
 package de.saarland.events.controller;
 
-import de.saarland.events.dto.EventResponseDto;
-import de.saarland.events.mapper.EventMapper;
-import de.saarland.events.model.Event;
+import de.saarland.events.dto.BoundingBox;
+import de.saarland.events.dto.CountMode;
+import de.saarland.events.dto.EventBatchDto;
+import de.saarland.events.dto.CursorPageDto;
+import de.saarland.events.dto.EventClusterDto;
+import de.saarland.events.dto.EventCursor;
+import de.saarland.events.dto.EventFacetsDto;
+import de.saarland.events.dto.GeoRadius;
+import de.saarland.events.dto.JsonFragment;
+import de.saarland.events.mapper.TranslationFallback;
+import de.saarland.events.service.DataVersionRegistry;
+import de.saarland.events.service.EventClusterIndex;
+import de.saarland.events.service.EventFacetService;
+import de.saarland.events.service.EventFeedService;
 import de.saarland.events.service.EventService;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/events")
 public class EventController {
 
+    private static final MediaType TEXT_CALENDAR = MediaType.parseMediaType("text/calendar; charset=UTF-8");
+
     private final EventService eventService;
-    private final EventMapper eventMapper;
+    private final EventFacetService eventFacetService;
+    private final EventFeedService eventFeedService;
+    private final EventClusterIndex eventClusterIndex;
+    private final DataVersionRegistry dataVersionRegistry;
 
-    public EventController(EventService eventService, EventMapper eventMapper) {
+    public EventController(EventService eventService, EventFacetService eventFacetService, EventFeedService eventFeedService,
+                           EventClusterIndex eventClusterIndex, DataVersionRegistry dataVersionRegistry) {
         this.eventService = eventService;
-        this.eventMapper = eventMapper;
+        this.eventFacetService = eventFacetService;
+        this.eventFeedService = eventFeedService;
+        this.eventClusterIndex = eventClusterIndex;
+        this.dataVersionRegistry = dataVersionRegistry;
     }
 
     @GetMapping
-    public ResponseEntity<Page<EventResponseDto>> getAllEvents(
+    public ResponseEntity<?> getAllEvents(
+            @RequestParam Optional<String> city,
+            @RequestParam Optional<Long> category,
+            @RequestParam Optional<Integer> year,
+            @RequestParam Optional<Integer> month,
+            @RequestParam Optional<String> categoryName,
+            @RequestParam Optional<String> keyword,
+            @RequestParam Optional<String> near,
+            @RequestParam Optional<Double> radiusKm,
+            @RequestParam(defaultValue = "false") boolean sortByDistance,
+            @RequestParam Optional<String> cursor,
+            @RequestParam Optional<String> count,
+            @RequestParam Optional<String> lang,
+            Pageable pageable,
+            WebRequest request
+    ) {
+        DataVersionRegistry.Validator validator = dataVersionRegistry.events();
+        if (request.checkNotModified(validator.etag(), validator.lastModified())) {
+            return null;
+        }
+        Optional<String> locale = TranslationFallback.normalize(lang);
+        Optional<GeoRadius> area = GeoRadius.parse(near, radiusKm);
+        if (cursor.isPresent()) {
+            if (sortByDistance) {
+                throw new IllegalArgumentException("Sorting by distance is not supported with cursor paging.");
+            }
+            CursorPageDto<JsonFragment> eventsWindow = eventService.findEventsAfter(city, category, year, month, categoryName, keyword, area, decodeCursor(cursor.get()), pageable.getPageSize(), locale);
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(eventsWindow);
+        }
+        Slice<JsonFragment> dtoPage = eventService.findEvents(city, category, year, month, categoryName, keyword, area, sortByDistance, pageable, CountMode.from(count.orElse(null)), locale);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(dtoPage);
+    }
+
+    @GetMapping("/facets")
+    public ResponseEntity<EventFacetsDto> getEventFacets(
             @RequestParam Optional<String> city,
             @RequestParam Optional<Long> category,
             @RequestParam Optional<Integer> year,
             @RequestParam Optional<Integer> month,
             @RequestParam Optional<String> categoryName,
             @RequestParam Optional<String> keyword,
-            Pageable pageable
+            WebRequest request
     ) {
-        Page<Event> eventsPage = eventService.findEvents(city, category, year, month, categoryName, keyword, pageable);
-        Page<EventResponseDto> dtoPage = eventsPage.map(eventMapper::toResponseDto);
-        return ResponseEntity.ok(dtoPage);
+        DataVersionRegistry.Validator validator = dataVersionRegistry.events();
+        if (request.checkNotModified(validator.etag(), validator.lastModified())) {
+            return null;
+        }
+        EventFacetsDto facets = eventFacetService.getFacets(city, category, year, month, categoryName, keyword);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(facets);
+    }
+
+    @GetMapping("/clusters")
+    public ResponseEntity<List<EventClusterDto>> getEventClusters(@RequestParam Optional<String> bbox, @RequestParam int zoom, WebRequest request) {
+        DataVersionRegistry.Validator validator = dataVersionRegistry.events();
+        if (request.checkNotModified(validator.etag(), validator.lastModified())) {
+            return null;
+        }
+        List<EventClusterDto> clusters = eventClusterIndex.clusters(BoundingBox.parse(bbox), zoom);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(clusters);
+    }
+
+    @GetMapping("/feed.ics")
+    public ResponseEntity<byte[]> getEventFeed(
+            @RequestParam Optional<String> city,
+            @RequestParam Optional<Long> category,
+            @RequestParam Optional<String> lang,
+            WebRequest request
+    ) {
+        DataVersionRegistry.Validator validator = dataVersionRegistry.events();
+        if (request.checkNotModified(validator.etag(), validator.lastModified())) {
+            return null;
+        }
+        byte[] feed = eventFeedService.getFeed(city, category, TranslationFallback.normalize(lang));
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .contentType(TEXT_CALENDAR)
+                .body(feed);
+    }
+
+    @GetMapping("/batch")
+    public ResponseEntity<EventBatchDto> getEventsByIds(@RequestParam String ids, @RequestParam Optional<String> lang) {
+        return ResponseEntity.ok(eventService.getEventsJson(parseIds(ids), TranslationFallback.normalize(lang)));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<EventResponseDto> getEventById(@PathVariable Long id) {
-        EventResponseDto eventDto = eventMapper.toResponseDto(eventService.getEventById(id));
-        return ResponseEntity.ok(eventDto);
+    public ResponseEntity<JsonFragment> getEventById(@PathVariable Long id, @RequestParam Optional<String> lang, WebRequest request) {
+        DataVersionRegistry.Validator validator = dataVersionRegistry.event(id);
+        if (request.checkNotModified(validator.etag(), validator.lastModified())) {
+            return null;
+        }
+        JsonFragment eventJson = eventService.getEventJson(id, TranslationFallback.normalize(lang));
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(eventJson);
+    }
+
+    private static List<Long> parseIds(String ids) {
+        try {
+            return Arrays.stream(ids.split(","))
+                    .map(String::trim)
+                    .filter(id -> !id.isEmpty())
+                    .map(Long::valueOf)
+                    .toList();
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid ids parameter, expected comma-separated event IDs.", ex);
+        }
+    }
+
+    static Optional<EventCursor> decodeCursor(String cursor) {
+        return cursor.isBlank() ? Optional.empty() : Optional.of(EventCursor.decode(cursor));
     }
-}
\ No newline at end of file
+}
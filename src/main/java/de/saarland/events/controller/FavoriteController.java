@@ -3,33 +3,29 @@
 package de.saarland.events.controller;
 
 import de.saarland.events.dto.EventResponseDto;
-import de.saarland.events.mapper.EventMapper;
+import de.saarland.events.mapper.TranslationFallback;
 import de.saarland.events.service.FavoriteService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/favorites")
 public class FavoriteController {
 
     private final FavoriteService favoriteService;
-    private final EventMapper eventMapper;
 
-    public FavoriteController(FavoriteService favoriteService, EventMapper eventMapper) {
+    public FavoriteController(FavoriteService favoriteService) {
         this.favoriteService = favoriteService;
-        this.eventMapper = eventMapper;
     }
 
     @GetMapping("/{userId}")
     @PreAuthorize("#userId == authentication.principal.id or hasRole('ADMIN')")
-    public ResponseEntity<List<EventResponseDto>> getFavorites(@PathVariable Long userId) {
-        List<EventResponseDto> favoriteEvents = favoriteService.getFavorites(userId).stream()
-                .map(eventMapper::toResponseDto)
-                .collect(Collectors.toList());
+    public ResponseEntity<List<EventResponseDto>> getFavorites(@PathVariable Long userId, @RequestParam Optional<String> lang) {
+        List<EventResponseDto> favoriteEvents = favoriteService.getFavoriteResponses(userId, TranslationFallback.normalize(lang));
         return ResponseEntity.ok(favoriteEvents);
     }
 
@@ -1,7 +1,10 @@
 package de.saarland.events.controller;
 
+import de.saarland.events.security.services.UserDetailsImpl;
 import de.saarland.events.service.TranslationService;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
@@ -28,10 +31,19 @@ public class TranslateController {
     }
 
     @PostMapping
-    public ResponseEntity<Map<String, String>> performTranslate(@RequestBody TranslateRequest request) {
-        String translatedText = translationService.translate(request.getText(), request.getTargetLang());
+    public ResponseEntity<Map<String, String>> performTranslate(@RequestBody TranslateRequest request, Authentication authentication, HttpServletRequest httpRequest) {
+        String translatedText = translationService.translate(request.getText(), request.getTargetLang(), clientId(authentication, httpRequest));
 
         Map<String, String> response = Map.of("translatedText", translatedText);
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    // Signed-in users are limited per account, anonymous callers per address; behind the proxy the address comes from
+    // X-Forwarded-For (server.forward-headers-strategy).
+    private static String clientId(Authentication authentication, HttpServletRequest request) {
+        if (authentication != null && authentication.getPrincipal() instanceof UserDetailsImpl user) {
+            return "user:" + user.getId();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
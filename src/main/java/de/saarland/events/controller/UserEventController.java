@@ -1,5 +1,7 @@
 package de.saarland.events.controller;
 
+import de.saarland.events.dto.CountMode;
+import de.saarland.events.dto.CursorPageDto;
 import de.saarland.events.dto.EventRequestDto;
 import de.saarland.events.dto.EventResponseDto;
 import de.saarland.events.dto.EventUpdateDto;
@@ -8,8 +10,8 @@ import de.saarland.events.model.Event;
 import de.saarland.events.security.services.UserDetailsImpl;
 import de.saarland.events.service.EventService;
 import de.saarland.events.service.RecaptchaService;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -17,6 +19,8 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Optional;
+
 
 
 @RestController
@@ -51,11 +55,14 @@ public class UserEventController {
 
     @GetMapping("/my-events")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<Page<EventResponseDto>> getMyEvents(Authentication authentication, Pageable pageable) {
+    public ResponseEntity<?> getMyEvents(Authentication authentication, @RequestParam Optional<String> cursor, @RequestParam Optional<String> count, Pageable pageable) {
         UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
         Long userId = userDetails.getId();
-        Page<Event> myEventsPage = eventService.findEventsByCreator(userId, pageable);
-        Page<EventResponseDto> dtoPage = myEventsPage.map(eventMapper::toResponseDto);
+        if (cursor.isPresent()) {
+            CursorPageDto<EventResponseDto> myEventsWindow = eventService.findEventsByCreatorAfter(userId, EventController.decodeCursor(cursor.get()), pageable.getPageSize());
+            return ResponseEntity.ok(myEventsWindow);
+        }
+        Slice<EventResponseDto> dtoPage = eventService.findEventsByCreator(userId, pageable, CountMode.from(count.orElse(null)));
         return ResponseEntity.ok(dtoPage);
     }
 
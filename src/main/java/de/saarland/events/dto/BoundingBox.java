@@ -0,0 +1,40 @@
+package de.saarland.events.dto;
+
+import java.util.Optional;
+
+/**
+ * Map viewport given as {@code bbox=west,south,east,north} in degrees. {@code west > east} means the box crosses
+ * the antimeridian.
+ */
+public record BoundingBox(double west, double south, double east, double north) {
+
+    public static final BoundingBox WORLD = new BoundingBox(-180, -90, 180, 90);
+
+    public static BoundingBox parse(Optional<String> bbox) {
+        if (bbox.isEmpty() || bbox.get().isBlank()) {
+            return WORLD;
+        }
+        String[] parts = bbox.get().split(",");
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Invalid bbox parameter, expected west,south,east,north.");
+        }
+        double[] values = new double[4];
+        try {
+            for (int i = 0; i < 4; i++) {
+                values[i] = Double.parseDouble(parts[i].trim());
+            }
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid bbox parameter, expected west,south,east,north.", ex);
+        }
+        BoundingBox box = new BoundingBox(values[0], values[1], values[2], values[3]);
+        if (!inRange(box.west(), 180) || !inRange(box.east(), 180) || !inRange(box.south(), 90) || !inRange(box.north(), 90)
+                || box.south() > box.north()) {
+            throw new IllegalArgumentException("bbox out of range: " + bbox.get());
+        }
+        return box;
+    }
+
+    private static boolean inRange(double value, double limit) {
+        return value >= -limit && value <= limit;
+    }
+}
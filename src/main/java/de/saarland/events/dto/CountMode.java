@@ -0,0 +1,21 @@
+package de.saarland.events.dto;
+
+import java.util.Locale;
+
+public enum CountMode {
+    EXACT,
+    APPROXIMATE,
+    NONE;
+
+    public static CountMode from(String value) {
+        if (value == null || value.isBlank()) {
+            return EXACT;
+        }
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "exact" -> EXACT;
+            case "approx", "approximate" -> APPROXIMATE;
+            case "none" -> NONE;
+            default -> throw new IllegalArgumentException("Unknown count mode '" + value + "'. Use exact, approx or none.");
+        };
+    }
+}
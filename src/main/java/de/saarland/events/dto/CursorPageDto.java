@@ -0,0 +1,37 @@
+package de.saarland.events.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+@AllArgsConstructor
+public class CursorPageDto<T> {
+
+    private List<T> content;
+    private int size;
+    private String nextCursor;
+
+    /**
+     * Builds a page from up to {@code size + 1} rows; the extra row only signals that a next page exists.
+     */
+    public static <T> CursorPageDto<T> of(List<T> rows, int size, Function<? super T, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(content.get(size - 1)) : null;
+        return new CursorPageDto<>(List.copyOf(content), size, nextCursor);
+    }
+
+    public <R> CursorPageDto<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorPageDto<>(content.stream().<R>map(mapper).toList(), size, nextCursor);
+    }
+
+    /**
+     * Replaces the whole content at once, keeping the cursor; for conversions that work on the page as a batch.
+     */
+    public <R> CursorPageDto<R> mapContent(Function<List<T>, List<R>> mapper) {
+        return new CursorPageDto<>(List.copyOf(mapper.apply(content)), size, nextCursor);
+    }
+}
@@ -0,0 +1,15 @@
+package de.saarland.events.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class EventBatchDto {
+
+    private List<JsonFragment> events;
+    private List<Long> missing;
+
+}
@@ -0,0 +1,23 @@
+package de.saarland.events.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Listed events within one map tile: the tile coordinates, the event-weighted centroid of their cities and the
+ * number of events and cities.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+public class EventClusterDto {
+
+    private int x;
+    private int y;
+    private double latitude;
+    private double longitude;
+    private long count;
+    private int cities;
+
+}
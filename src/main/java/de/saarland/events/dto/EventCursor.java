@@ -0,0 +1,43 @@
+package de.saarland.events.dto;
+
+import de.saarland.events.model.Event;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+
+/**
+ * Opaque keyset position in the listing order (premium first, then event date, then id).
+ */
+public record EventCursor(boolean premium, ZonedDateTime eventDate, Long id) {
+
+    public static EventCursor of(Event event) {
+        return new EventCursor(event.isPremium(), event.getEventDate(), event.getId());
+    }
+
+    public static EventCursor of(EventResponseDto event) {
+        return new EventCursor(event.isPremium(), event.getEventDate(), event.getId());
+    }
+
+    public String encode() {
+        Instant instant = eventDate.toInstant();
+        String raw = (premium ? "1" : "0") + ":" + instant.getEpochSecond() + ":" + instant.getNano() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static EventCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Invalid cursor.");
+            }
+            Instant instant = Instant.ofEpochSecond(Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+            return new EventCursor("1".equals(parts[0]), instant.atZone(ZoneOffset.UTC), Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid cursor.", ex);
+        }
+    }
+}
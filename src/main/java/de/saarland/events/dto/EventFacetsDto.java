@@ -0,0 +1,25 @@
+package de.saarland.events.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Counts of the listed events matching a filter. Months are keyed {@code yyyy-MM}, days by day of month;
+ * both only contain non-empty buckets, in calendar order.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+public class EventFacetsDto {
+
+    private long total;
+    private List<FacetCountDto> cities;
+    private List<FacetCountDto> categories;
+    private Map<String, Long> months;
+    private Map<Integer, Long> daysOfMonth;
+
+}
@@ -0,0 +1,26 @@
+package de.saarland.events.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Outcome for one imported event. {@code row} is the 1-based position of the event in a JSON file, or the line on
+ * which the event starts in a CSV file.
+ */
+@Getter
+@AllArgsConstructor
+public class EventImportRowDto {
+
+    public enum Outcome {
+        CREATED,
+        DUPLICATE,
+        INVALID,
+        FAILED
+    }
+
+    private long row;
+    private Outcome outcome;
+    private Long eventId;
+    private String message;
+
+}
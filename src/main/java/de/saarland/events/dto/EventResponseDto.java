@@ -1,5 +1,6 @@
 package de.saarland.events.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import de.saarland.events.model.EStatus;
 import lombok.Getter;
 import lombok.Setter;
@@ -21,4 +22,7 @@ public class EventResponseDto {
     private Long createdByUserId;
     private boolean isPremium;
     private ZonedDateTime premiumUntil;
+    // Only filled in for moderators.
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<NearDuplicateDto> nearDuplicates;
 }
\ No newline at end of file
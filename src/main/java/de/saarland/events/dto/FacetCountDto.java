@@ -0,0 +1,16 @@
+package de.saarland.events.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class FacetCountDto {
+
+    private Long id;
+    private String name;
+    private long count;
+
+}
@@ -0,0 +1,41 @@
+package de.saarland.events.dto;
+
+import java.util.Optional;
+
+/**
+ * Circular search area given as {@code near=lat,lon} plus a radius in kilometres.
+ */
+public record GeoRadius(double latitude, double longitude, double radiusKm) {
+
+    public static final double DEFAULT_RADIUS_KM = 25;
+    public static final double MAX_RADIUS_KM = 300;
+
+    public static Optional<GeoRadius> parse(Optional<String> near, Optional<Double> radiusKm) {
+        if (near.isEmpty() || near.get().isBlank()) {
+            if (radiusKm.isPresent()) {
+                throw new IllegalArgumentException("radiusKm requires near=lat,lon.");
+            }
+            return Optional.empty();
+        }
+        String[] parts = near.get().split(",");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Invalid near parameter, expected lat,lon.");
+        }
+        double latitude;
+        double longitude;
+        try {
+            latitude = Double.parseDouble(parts[0].trim());
+            longitude = Double.parseDouble(parts[1].trim());
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid near parameter, expected lat,lon.", ex);
+        }
+        if (!(latitude >= -90 && latitude <= 90) || !(longitude >= -180 && longitude <= 180)) {
+            throw new IllegalArgumentException("Coordinates out of range: " + near.get());
+        }
+        double radius = radiusKm.orElse(DEFAULT_RADIUS_KM);
+        if (!(radius > 0 && radius <= MAX_RADIUS_KM)) {
+            throw new IllegalArgumentException("radiusKm must be between 0 and " + (int) MAX_RADIUS_KM + ".");
+        }
+        return Optional.of(new GeoRadius(latitude, longitude, radius));
+    }
+}
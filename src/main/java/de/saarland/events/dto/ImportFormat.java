@@ -0,0 +1,26 @@
+package de.saarland.events.dto;
+
+import java.util.Locale;
+
+public enum ImportFormat {
+    JSON,
+    CSV;
+
+    /**
+     * Uses the {@code format} parameter if given, otherwise the request content type. JSON covers both a single array
+     * and newline-delimited objects.
+     */
+    public static ImportFormat from(String format, String contentType) {
+        if (format != null && !format.isBlank()) {
+            return switch (format.trim().toLowerCase(Locale.ROOT)) {
+                case "json", "ndjson", "jsonl" -> JSON;
+                case "csv" -> CSV;
+                default -> throw new IllegalArgumentException("Unknown import format '" + format + "'. Use json, ndjson or csv.");
+            };
+        }
+        if (contentType != null && contentType.toLowerCase(Locale.ROOT).contains("csv")) {
+            return CSV;
+        }
+        return JSON;
+    }
+}
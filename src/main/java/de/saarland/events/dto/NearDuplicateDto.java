@@ -0,0 +1,16 @@
+package de.saarland.events.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Another event that looks like the same event submitted again; {@code similarity} runs from 0 to 1.
+ */
+@Getter
+@AllArgsConstructor
+public class NearDuplicateDto {
+
+    private Long eventId;
+    private double similarity;
+
+}
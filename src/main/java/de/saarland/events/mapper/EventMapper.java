@@ -6,8 +6,11 @@ import de.saarland.events.dto.EventUpdateDto;
 import de.saarland.events.dto.TranslationDto;
 import de.saarland.events.model.Event;
 import de.saarland.events.model.Translation;
+import de.saarland.events.service.ReferenceDataRegistry;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Component
@@ -15,10 +18,12 @@ public class EventMapper {
 
     private final CategoryMapper categoryMapper;
     private final CityMapper cityMapper;
+    private final ReferenceDataRegistry referenceDataRegistry;
 
-    public EventMapper(CategoryMapper categoryMapper, CityMapper cityMapper) {
+    public EventMapper(CategoryMapper categoryMapper, CityMapper cityMapper, ReferenceDataRegistry referenceDataRegistry) {
         this.categoryMapper = categoryMapper;
         this.cityMapper = cityMapper;
+        this.referenceDataRegistry = referenceDataRegistry;
     }
 
     public EventResponseDto toResponseDto(Event event) {
@@ -31,8 +36,13 @@ public class EventMapper {
         dto.setEventDate(event.getEventDate());
         dto.setEndDate(event.getEndDate());
         dto.setImageUrl(event.getImageUrl());
-        dto.setCity(cityMapper.toDto(event.getCity()));
-        dto.setCategory(categoryMapper.toDto(event.getCategory()));
+        // shared DTOs from the registry; mapping the entity is only a fallback for data the registry has not seen yet
+        if (event.getCity() != null) {
+            dto.setCity(referenceDataRegistry.city(event.getCity().getId()).orElseGet(() -> cityMapper.toDto(event.getCity())));
+        }
+        if (event.getCategory() != null) {
+            dto.setCategory(referenceDataRegistry.category(event.getCategory().getId()).orElseGet(() -> categoryMapper.toDto(event.getCategory())));
+        }
         dto.setTranslations(event.getTranslations().stream()
                 .map(this::toTranslationDto)
                 .collect(Collectors.toList()));
@@ -48,6 +58,19 @@ public class EventMapper {
         return dto;
     }
 
+    /**
+     * Like {@link #toResponseDto(Event)}, but with a {@code lang} only the best matching translation is included.
+     */
+    public EventResponseDto toResponseDto(Event event, Optional<String> lang) {
+        EventResponseDto dto = toResponseDto(event);
+        if (dto != null && lang.isPresent()) {
+            dto.setTranslations(TranslationFallback.pick(dto.getTranslations(), TranslationDto::getLocale, lang.get())
+                    .map(List::of)
+                    .orElse(List.of()));
+        }
+        return dto;
+    }
+
     public Event toEntity(EventRequestDto dto) {
         if (dto == null) {
             return null;
@@ -0,0 +1,125 @@
+package de.saarland.events.mapper;
+
+import de.saarland.events.model.Event;
+import de.saarland.events.model.Translation;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+/**
+ * Writes events as an iCalendar (RFC 5545) feed. Lines are written one at a time in UTF-8, CRLF-terminated and
+ * folded at 75 octets without splitting multi-byte characters.
+ */
+public final class IcsCalendarWriter {
+
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final byte[] CRLF = {'\r', '\n'};
+    private static final byte[] FOLD = {'\r', '\n', ' '};
+    private static final DateTimeFormatter UTC_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'", Locale.ROOT)
+            .withZone(ZoneOffset.UTC);
+
+    private final OutputStream out;
+    private final String lang;
+    private final String stamp;
+
+    /**
+     * @param lang  preferred translation, see {@link TranslationFallback}
+     * @param stamp DTSTAMP of every event, i.e. when the feed data last changed
+     */
+    public IcsCalendarWriter(OutputStream out, String lang, Instant stamp) {
+        this.out = out;
+        this.lang = lang;
+        this.stamp = UTC_DATE_TIME.format(stamp);
+    }
+
+    public void begin(String calendarName) throws IOException {
+        line("BEGIN:VCALENDAR");
+        line("VERSION:2.0");
+        line("PRODID:-//Saarland Events//Event Feed//DE");
+        line("CALSCALE:GREGORIAN");
+        line("METHOD:PUBLISH");
+        line("X-WR-CALNAME:" + escape(calendarName));
+        line("REFRESH-INTERVAL;VALUE=DURATION:PT1H");
+        line("X-PUBLISHED-TTL:PT1H");
+    }
+
+    public void event(Event event) throws IOException {
+        line("BEGIN:VEVENT");
+        line("UID:event-" + event.getId() + "@saarland-events");
+        line("DTSTAMP:" + stamp);
+        line("DTSTART:" + format(event.getEventDate()));
+        if (event.getEndDate() != null && event.getEndDate().isAfter(event.getEventDate())) {
+            line("DTEND:" + format(event.getEndDate()));
+        }
+        Translation translation = TranslationFallback.pick(event.getTranslations(), Translation::getLocale, lang).orElse(null);
+        if (translation != null) {
+            line("SUMMARY:" + escape(translation.getName()));
+            if (translation.getDescription() != null && !translation.getDescription().isBlank()) {
+                line("DESCRIPTION:" + escape(translation.getDescription()));
+            }
+        }
+        if (event.getCity() != null) {
+            line("LOCATION:" + escape(event.getCity().getName()));
+            if (event.getCity().getLatitude() != null && event.getCity().getLongitude() != null) {
+                line("GEO:" + event.getCity().getLatitude() + ";" + event.getCity().getLongitude());
+            }
+        }
+        if (event.getCategory() != null) {
+            line("CATEGORIES:" + escape(event.getCategory().getName()));
+        }
+        line("END:VEVENT");
+    }
+
+    public void end() throws IOException {
+        line("END:VCALENDAR");
+    }
+
+    private void line(String content) throws IOException {
+        byte[] utf8 = content.getBytes(StandardCharsets.UTF_8);
+        int start = 0;
+        int limit = MAX_LINE_OCTETS;
+        while (utf8.length - start > limit) {
+            int end = start + limit;
+            // Back up to the start of a UTF-8 sequence so a character is never split across lines.
+            while ((utf8[end] & 0xC0) == 0x80) {
+                end--;
+            }
+            out.write(utf8, start, end - start);
+            out.write(FOLD);
+            start = end;
+            // The leading space of a continuation line counts towards its 75 octets.
+            limit = MAX_LINE_OCTETS - 1;
+        }
+        out.write(utf8, start, utf8.length - start);
+        out.write(CRLF);
+    }
+
+    private static String format(ZonedDateTime dateTime) {
+        return UTC_DATE_TIME.format(dateTime);
+    }
+
+    static String escape(String text) {
+        StringBuilder escaped = new StringBuilder(text.length() + 16);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\', ';', ',' -> escaped.append('\\').append(c);
+                case '\r' -> {
+                    escaped.append("\\n");
+                    if (i + 1 < text.length() && text.charAt(i + 1) == '\n') {
+                        i++;
+                    }
+                }
+                case '\n' -> escaped.append("\\n");
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+}
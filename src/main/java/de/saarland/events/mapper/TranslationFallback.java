@@ -0,0 +1,50 @@
+package de.saarland.events.mapper;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Picks the translation shown for a requested language: the language itself, then German, then whatever exists.
+ */
+public final class TranslationFallback {
+
+    public static final String DEFAULT_LOCALE = "de";
+
+    private TranslationFallback() {
+    }
+
+    /**
+     * Normalises a {@code lang} request parameter to the two-letter codes stored on translations.
+     */
+    public static Optional<String> normalize(Optional<String> lang) {
+        return lang.map(String::trim)
+                .filter(l -> !l.isEmpty())
+                .map(l -> {
+                    String code = l.toLowerCase(Locale.ROOT);
+                    if (!code.matches("[a-z]{2}")) {
+                        throw new IllegalArgumentException("Invalid language: " + l);
+                    }
+                    return code;
+                });
+    }
+
+    public static <T> Optional<T> pick(List<T> translations, Function<T, String> localeOf, String lang) {
+        T german = null;
+        T any = null;
+        for (T translation : translations) {
+            String locale = localeOf.apply(translation);
+            if (lang.equals(locale)) {
+                return Optional.of(translation);
+            }
+            if (german == null && DEFAULT_LOCALE.equals(locale)) {
+                german = translation;
+            }
+            if (any == null) {
+                any = translation;
+            }
+        }
+        return Optional.ofNullable(german != null ? german : any);
+    }
+}
@@ -0,0 +1,40 @@
+package de.saarland.events.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.ZonedDateTime;
+
+/**
+ * A DeepL result kept so the same text is never sent twice. The source text itself is not stored, only its SHA-256.
+ */
+@Entity
+@Table(name = "translation_cache", indexes = {
+        @Index(name = "uk_translation_cache_key", columnList = "content_hash, source_lang, target_lang", unique = true)
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class CachedTranslation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(name = "source_lang", nullable = false, length = 8)
+    private String sourceLang;
+
+    @Column(name = "target_lang", nullable = false, length = 8)
+    private String targetLang;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String translatedText;
+
+    @Column(nullable = false)
+    private ZonedDateTime createdAt;
+}
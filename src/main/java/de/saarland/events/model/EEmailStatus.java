@@ -0,0 +1,7 @@
+package de.saarland.events.model;
+
+public enum EEmailStatus {
+    PENDING,
+    SENT,
+    FAILED
+}
@@ -0,0 +1,42 @@
+package de.saarland.events.model;
+
+/**
+ * Emails the application sends. Subject and body carry SendGrid substitution tags ({@code -name-}) that are filled in
+ * per recipient, so messages of the same template can share one request.
+ */
+public enum EEmailTemplate {
+    EVENT_REMINDER(
+            "Event Reminder: -eventName-",
+            "Hello, -username-!\n\nWe remind you that the event you saved will start soon: '-eventName-'.\nIt will happen -eventDate-.\n\n" +
+                    "Best wishes, the Afisha Saarland team!"),
+    PASSWORD_RESET(
+            "Password Reset Request",
+            "Hello, -username-!\n\nYou requested a password reset. Please click the link below to set a new password:\n-resetLink-\n\n" +
+                    "If you did not request this, please ignore this email.\n\n" +
+                    "Best wishes, the Afisha Saarland team!"),
+    PROMOTION_CONFIRMATION(
+            "Your event '-eventName-' has been promoted!",
+            "Hello, -username-!\n\nThank you for your payment. Your event '-eventName-' will now be featured in the premium block until -premiumUntil-.\n\n" +
+                    "Best wishes, the Afisha Saarland team!"),
+    EVENT_APPROVED(
+            "Ihr Event '-eventName-' wurde genehmigt!",
+            "Hallo, -username-!\n\nIhr Event '-eventName-' wurde genehmigt und ist jetzt auf unserer Webseite veröffentlicht.\n\n" +
+                    "Möchten Sie mehr Besucher erreichen? Bewerben Sie Ihr Event hier: -promotionLink-\n\n" +
+                    "Mit freundlichen Grüßen,\nIhr Team von Afisha Saarland!");
+
+    private final String subject;
+    private final String body;
+
+    EEmailTemplate(String subject, String body) {
+        this.subject = subject;
+        this.body = body;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public String getBody() {
+        return body;
+    }
+}
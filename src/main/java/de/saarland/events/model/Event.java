@@ -1,24 +1,36 @@
 package de.saarland.events.model;
 
 import com.fasterxml.jackson.annotation.JsonManagedReference;
+import de.saarland.events.config.JdbcBatchingConfig;
+import de.saarland.events.config.SecondLevelCacheConfig;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "events")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.EVENTS)
+@Table(name = "events", indexes = {
+        @Index(name = "idx_events_listing_keyset", columnList = "isPremium DESC, eventDate, id"),
+        @Index(name = "idx_events_city_keyset", columnList = "city_id, isPremium DESC, eventDate, id"),
+        @Index(name = "idx_events_creator_keyset", columnList = "created_by_user_id, isPremium DESC, eventDate, id"),
+        @Index(name = "uk_events_duplicate_key", columnList = "duplicate_key", unique = true)
+})
 @Getter
 @Setter
 @NoArgsConstructor
 public class Event {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_ids")
+    @SequenceGenerator(name = "event_ids", sequenceName = JdbcBatchingConfig.EVENT_SEQUENCE, allocationSize = JdbcBatchingConfig.ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
@@ -34,6 +46,8 @@ public class Event {
     private String imageUrl;
 
     @JsonManagedReference
+    @BatchSize(size = 50)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.EVENT_TRANSLATIONS)
     @OneToMany(mappedBy = "event", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
     private List<Translation> translations = new ArrayList<>();
 
@@ -58,4 +72,8 @@ public class Event {
 
     private ZonedDateTime premiumUntil;
 
+    // City, local date and normalised German name; see EventDuplicateGuard. Null for events without a German name.
+    @Column(name = "duplicate_key", length = 320)
+    private String duplicateKey;
+
 }
\ No newline at end of file
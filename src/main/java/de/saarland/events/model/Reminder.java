@@ -8,7 +8,9 @@ import lombok.Setter;
 import java.time.ZonedDateTime;
 
 @Entity
-@Table(name = "reminders")
+@Table(name = "reminders", indexes = {
+        @Index(name = "idx_reminders_due", columnList = "isSent, remindAt")
+})
 @Getter
 @Setter
 @NoArgsConstructor
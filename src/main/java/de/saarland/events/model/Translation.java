@@ -1,12 +1,17 @@
 package de.saarland.events.model;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import de.saarland.events.config.JdbcBatchingConfig;
+import de.saarland.events.config.SecondLevelCacheConfig;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.TRANSLATIONS)
 @Table(name = "translations")
 @NoArgsConstructor
 @Getter
@@ -14,7 +19,8 @@ import lombok.Setter;
 public class Translation {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "translation_ids")
+    @SequenceGenerator(name = "translation_ids", sequenceName = JdbcBatchingConfig.TRANSLATION_SEQUENCE, allocationSize = JdbcBatchingConfig.ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, length = 2)
@@ -0,0 +1,17 @@
+package de.saarland.events.repository;
+
+import de.saarland.events.model.CachedTranslation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CachedTranslationRepository extends JpaRepository<CachedTranslation, Long> {
+
+    Optional<CachedTranslation> findByContentHashAndSourceLangAndTargetLang(String contentHash, String sourceLang, String targetLang);
+
+    List<CachedTranslation> findByContentHashInAndSourceLangAndTargetLang(Collection<String> contentHashes, String sourceLang, String targetLang);
+}
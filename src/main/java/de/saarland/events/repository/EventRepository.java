@@ -4,43 +4,48 @@ package de.saarland.events.repository;
 import de.saarland.events.dto.CityEventCountDto;
 import de.saarland.events.model.EStatus;
 import de.saarland.events.model.Event;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 
 
-import java.time.LocalDate;
 import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface EventRepository extends JpaRepository<Event, Long>, JpaSpecificationExecutor<Event> {
+public interface EventRepository extends JpaRepository<Event, Long>, JpaSpecificationExecutor<Event>, EventRepositoryCustom {
 
     List<Event> findAllByEventDateGreaterThanEqualOrderByEventDateAsc(ZonedDateTime date);
     long countByStatus(EStatus status);
 
-    Page<Event> findByStatusOrderByEventDateAsc(EStatus status, Pageable pageable);
 
-    Page<Event> findByCityNameAndStatusIn(String cityName, List<EStatus> statuses, Pageable pageable);
+    boolean existsByDuplicateKey(String duplicateKey);
 
-    Page<Event> findByCityNameAndEventDateBeforeAndStatusIn(String cityName, ZonedDateTime date, List<EStatus> statuses, Pageable pageable);
-    Page<Event> findByCityNameAndEventDateAfterAndStatusIn(String cityName, ZonedDateTime date, List<EStatus> statuses, Pageable pageable);
+    boolean existsByDuplicateKeyAndIdNot(String duplicateKey, Long id);
 
-    @Query("SELECT COUNT(e) > 0 FROM Event e JOIN e.translations t " +
-            "WHERE t.locale = 'de' " +
-            "AND lower(t.name) = lower(:name) " +
-            "AND e.city.id = :cityId " +
-            "AND CAST(e.eventDate AS date) = :eventDate")
-    boolean existsDuplicate(
-            @Param("name") String name,
-            @Param("cityId") Long cityId,
-            @Param("eventDate") LocalDate eventDate
-    );
+    @Query("SELECT e.duplicateKey FROM Event e WHERE e.duplicateKey IN :keys")
+    List<String> findExistingDuplicateKeys(@Param("keys") Collection<String> keys);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e.duplicateKey FROM Event e WHERE e.duplicateKey IS NOT NULL")
+    Stream<String> streamDuplicateKeys();
+
+    @Query("SELECT e FROM Event e WHERE e.duplicateKey IS NULL AND e.id > :afterId ORDER BY e.id")
+    List<Event> findWithoutDuplicateKey(@Param("afterId") Long afterId, Pageable pageable);
 
     @Query("SELECT new de.saarland.events.dto.CityEventCountDto(e.city.name, COUNT(e)) " +
             "FROM Event e " +
@@ -49,7 +54,46 @@ public interface EventRepository extends JpaRepository<Event, Long>, JpaSpecific
             "ORDER BY e.city.name ASC")
     List<CityEventCountDto> countEventsByCity();
 
-    Page<Event> findByCreatedBy_Id(Long userId, Pageable pageable);
-
     List<Event> findByIsPremiumTrueAndPremiumUntilBefore(ZonedDateTime now);
-}
\ No newline at end of file
+
+    /**
+     * Every event with its city, category and translations, ordered by ID, as a forward-only cursor. Must be consumed
+     * inside a transaction; callers should detach each event once written so the persistence context stays small.
+     * The second-level cache is only read, so a full export does not evict the hot entries.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "GET")
+    })
+    @Query("SELECT e FROM Event e JOIN FETCH e.city LEFT JOIN FETCH e.category LEFT JOIN FETCH e.translations ORDER BY e.id")
+    Stream<Event> streamAllForExport();
+
+    /**
+     * Rows of {@code [eventId, cityId, eventDate, locale, name, description]}, one per translation, for every event
+     * not in the given status, grouped by event. Must be consumed inside a transaction.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e.id, e.city.id, e.eventDate, t.locale, t.name, t.description FROM Event e JOIN e.translations t " +
+            "WHERE e.status <> :excluded ORDER BY e.id")
+    Stream<Object[]> streamTranslationTexts(@Param("excluded") EStatus excluded);
+
+    /**
+     * Approved events that have not ended, have a German text and lack a translation in at least one of the locales.
+     */
+    @Query("SELECT e.id FROM Event e WHERE e.status = :status AND COALESCE(e.endDate, e.eventDate) > :now " +
+            "AND EXISTS (SELECT 1 FROM Translation d WHERE d.event = e AND d.locale = 'de') " +
+            "AND (SELECT COUNT(t) FROM Translation t WHERE t.event = e AND t.locale IN :locales) < :localeCount ORDER BY e.id")
+    List<Long> findIdsMissingTranslations(@Param("status") EStatus status, @Param("now") ZonedDateTime now,
+                                          @Param("locales") Collection<String> locales, @Param("localeCount") long localeCount);
+
+    /**
+     * The events, locked until the end of the transaction; locked in ID order so concurrent callers cannot deadlock.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM Event e WHERE e.id IN :ids ORDER BY e.id")
+    List<Event> findAllForUpdateByIdIn(@Param("ids") Collection<Long> ids);
+}
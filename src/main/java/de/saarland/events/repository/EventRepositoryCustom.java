@@ -0,0 +1,44 @@
+package de.saarland.events.repository;
+
+import de.saarland.events.dto.EventResponseDto;
+import de.saarland.events.model.Event;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface EventRepositoryCustom {
+
+    Slice<Event> findSlice(Specification<Event> spec, Pageable pageable);
+
+    /**
+     * First phase of {@link #findSlice} on its own: the page of matching event IDs in order.
+     */
+    Slice<Long> findIdSlice(Specification<Event> spec, Pageable pageable);
+
+    List<Event> findKeysetPage(Specification<Event> spec, Sort sort, int limit);
+
+    /**
+     * Read-only projections of {@link #findSlice} and {@link #findKeysetPage}; no entities are loaded. With a
+     * {@code locale}, each event carries a single translation (see {@link #findResponsesById}).
+     */
+    Slice<EventResponseDto> findResponseSlice(Specification<Event> spec, Pageable pageable, Optional<String> locale);
+
+    List<EventResponseDto> findResponseKeysetPage(Specification<Event> spec, Sort sort, int limit, Optional<String> locale);
+
+    List<Event> findAllWithAssociations(Specification<Event> spec);
+
+    /**
+     * Loads the given events with city, category and translations, in the order of {@code ids}; unknown IDs are skipped.
+     */
+    List<Event> findAllWithAssociationsById(List<Long> ids);
+
+    /**
+     * Projects the given events in the order of {@code ids}. With a {@code locale}, only that locale's and the German
+     * translation rows are read and each event keeps the best match of the two (any translation if it has neither).
+     */
+    List<EventResponseDto> findResponsesById(List<Long> ids, Optional<String> locale);
+}
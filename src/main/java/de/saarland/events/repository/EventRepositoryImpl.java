@@ -0,0 +1,250 @@
+package de.saarland.events.repository;
+
+import de.saarland.events.dto.CategoryDto;
+import de.saarland.events.dto.CityDto;
+import de.saarland.events.dto.EventResponseDto;
+import de.saarland.events.dto.TranslationDto;
+import de.saarland.events.mapper.TranslationFallback;
+import de.saarland.events.model.EStatus;
+import de.saarland.events.model.Event;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.*;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Paged event reads run in two phases: the first query applies the filters and ordering but selects only event
+ * IDs (plus the sort keys, so DISTINCT stays valid), the second loads exactly those events together with their
+ * city, category and translations. This keeps LIMIT/OFFSET in SQL and avoids per-row selects for the EAGER
+ * associations. The {@code Response} variants replace the second phase with a scalar projection that builds
+ * {@link EventResponseDto}s straight from the rows, without managed entities.
+ */
+public class EventRepositoryImpl implements EventRepositoryCustom {
+
+    private static final int FETCH_CHUNK_SIZE = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Slice<Event> findSlice(Specification<Event> spec, Pageable pageable) {
+        return slice(spec, pageable, this::findAllWithAssociationsById);
+    }
+
+    @Override
+    public Slice<Long> findIdSlice(Specification<Event> spec, Pageable pageable) {
+        return slice(spec, pageable, Function.identity());
+    }
+
+    @Override
+    public Slice<EventResponseDto> findResponseSlice(Specification<Event> spec, Pageable pageable, Optional<String> locale) {
+        return slice(spec, pageable, ids -> findResponsesById(ids, locale));
+    }
+
+    @Override
+    public List<Event> findKeysetPage(Specification<Event> spec, Sort sort, int limit) {
+        return findAllWithAssociationsById(findIds(spec, sort, 0, limit));
+    }
+
+    @Override
+    public List<EventResponseDto> findResponseKeysetPage(Specification<Event> spec, Sort sort, int limit, Optional<String> locale) {
+        return findResponsesById(findIds(spec, sort, 0, limit), locale);
+    }
+
+    @Override
+    public List<Event> findAllWithAssociations(Specification<Event> spec) {
+        return findAllWithAssociationsById(findIds(spec, Sort.unsorted(), 0, -1));
+    }
+
+    @Override
+    public List<Event> findAllWithAssociationsById(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Event> byId = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += FETCH_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + FETCH_CHUNK_SIZE, ids.size()));
+            entityManager.createQuery(
+                            "SELECT e FROM Event e " +
+                                    "JOIN FETCH e.city " +
+                                    "LEFT JOIN FETCH e.category " +
+                                    "LEFT JOIN FETCH e.translations " +
+                                    "WHERE e.id IN :ids", Event.class)
+                    .setParameter("ids", chunk)
+                    .getResultList()
+                    .forEach(event -> byId.put(event.getId(), event));
+        }
+        List<Event> ordered = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Event event = byId.get(id);
+            if (event != null) {
+                ordered.add(event);
+            }
+        }
+        return ordered;
+    }
+
+    @Override
+    public List<EventResponseDto> findResponsesById(List<Long> ids, Optional<String> locale) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, EventResponseDto> byId = new HashMap<>();
+        Map<Long, CityDto> cities = new HashMap<>();
+        Map<Long, CategoryDto> categories = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += FETCH_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + FETCH_CHUNK_SIZE, ids.size()));
+            TypedQuery<Object[]> query = entityManager.createQuery(
+                            "SELECT e.id, e.eventDate, e.endDate, e.imageUrl, e.status, e.isPremium, e.premiumUntil, e.createdBy.id, " +
+                                    "c.id, c.name, c.latitude, c.longitude, " +
+                                    "cat.id, cat.name, cat.description, " +
+                                    "t.locale, t.name, t.description " +
+                                    "FROM Event e " +
+                                    "JOIN e.city c " +
+                                    "LEFT JOIN e.category cat " +
+                                    "LEFT JOIN e.translations t" + (locale.isPresent() ? " ON t.locale IN :locales " : " ") +
+                                    "WHERE e.id IN :ids " +
+                                    "ORDER BY t.id", Object[].class)
+                    .setParameter("ids", chunk);
+            locale.ifPresent(l -> query.setParameter("locales", List.of(l, TranslationFallback.DEFAULT_LOCALE)));
+            for (Object[] row : query.getResultList()) {
+                EventResponseDto dto = byId.computeIfAbsent((Long) row[0], id -> toResponseDto(row, cities, categories));
+                if (row[15] != null) {
+                    dto.getTranslations().add(toTranslationDto((String) row[15], (String) row[16], (String) row[17]));
+                }
+            }
+        }
+        locale.ifPresent(l -> selectTranslation(byId, l));
+
+        List<EventResponseDto> ordered = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            EventResponseDto dto = byId.get(id);
+            if (dto != null) {
+                ordered.add(dto);
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * Reduces each event to the translation for {@code locale}, falling back to German; events with neither get
+     * their remaining translations loaded in one extra query.
+     */
+    private void selectTranslation(Map<Long, EventResponseDto> byId, String locale) {
+        List<Long> missing = new ArrayList<>();
+        byId.forEach((id, dto) -> {
+            if (dto.getTranslations().isEmpty()) {
+                missing.add(id);
+            } else {
+                dto.setTranslations(List.of(TranslationFallback.pick(dto.getTranslations(), TranslationDto::getLocale, locale).orElseThrow()));
+            }
+        });
+        if (missing.isEmpty()) {
+            return;
+        }
+        entityManager.createQuery(
+                        "SELECT t.event.id, t.locale, t.name, t.description FROM Translation t " +
+                                "WHERE t.event.id IN :ids ORDER BY t.id", Object[].class)
+                .setParameter("ids", missing)
+                .getResultList()
+                .forEach(row -> {
+                    EventResponseDto dto = byId.get((Long) row[0]);
+                    if (dto.getTranslations().isEmpty()) {
+                        dto.setTranslations(List.of(toTranslationDto((String) row[1], (String) row[2], (String) row[3])));
+                    }
+                });
+    }
+
+    private static TranslationDto toTranslationDto(String locale, String name, String description) {
+        TranslationDto translation = new TranslationDto();
+        translation.setLocale(locale);
+        translation.setName(name);
+        translation.setDescription(description);
+        return translation;
+    }
+
+    // City and category DTOs are shared between the events of one page.
+    private static EventResponseDto toResponseDto(Object[] row, Map<Long, CityDto> cities, Map<Long, CategoryDto> categories) {
+        EventResponseDto dto = new EventResponseDto();
+        dto.setId((Long) row[0]);
+        dto.setEventDate((ZonedDateTime) row[1]);
+        dto.setEndDate((ZonedDateTime) row[2]);
+        dto.setImageUrl((String) row[3]);
+        dto.setStatus((EStatus) row[4]);
+        dto.setPremium((Boolean) row[5]);
+        dto.setPremiumUntil((ZonedDateTime) row[6]);
+        dto.setCreatedByUserId((Long) row[7]);
+        dto.setCity(cities.computeIfAbsent((Long) row[8], id -> {
+            CityDto city = new CityDto();
+            city.setId(id);
+            city.setName((String) row[9]);
+            city.setLatitude((Double) row[10]);
+            city.setLongitude((Double) row[11]);
+            return city;
+        }));
+        if (row[12] != null) {
+            dto.setCategory(categories.computeIfAbsent((Long) row[12], id -> {
+                CategoryDto category = new CategoryDto();
+                category.setId(id);
+                category.setName((String) row[13]);
+                category.setDescription((String) row[14]);
+                return category;
+            }));
+        }
+        dto.setTranslations(new ArrayList<>(2));
+        return dto;
+    }
+
+    private <T> Slice<T> slice(Specification<Event> spec, Pageable pageable, Function<List<Long>, List<T>> loader) {
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(loader.apply(findIds(spec, pageable.getSort(), 0, -1)), pageable, false);
+        }
+        List<Long> ids = findIds(spec, pageable.getSort(), pageable.getOffset(), pageable.getPageSize() + 1);
+        boolean hasNext = ids.size() > pageable.getPageSize();
+        List<Long> pageIds = hasNext ? ids.subList(0, pageable.getPageSize()) : ids;
+        return new SliceImpl<>(loader.apply(pageIds), pageable, hasNext);
+    }
+
+    private List<Long> findIds(Specification<Event> spec, Sort sort, long offset, int limit) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<Event> root = query.from(Event.class);
+        Predicate predicate = spec.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+        }
+
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(root.get("id"));
+        for (Order order : query.getOrderList()) {
+            selections.add(order.getExpression());
+        }
+        query.multiselect(selections);
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (offset > 0) {
+            typedQuery.setFirstResult((int) offset);
+        }
+        if (limit >= 0) {
+            typedQuery.setMaxResults(limit);
+        }
+        return typedQuery.getResultList().stream()
+                .map(tuple -> tuple.get(0, Long.class))
+                .distinct()
+                .toList();
+    }
+}
@@ -0,0 +1,29 @@
+package de.saarland.events.repository;
+
+import de.saarland.events.model.EEmailStatus;
+import de.saarland.events.model.OutboxEmail;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEmailRepository extends JpaRepository<OutboxEmail, Long> {
+
+    /**
+     * Due messages, locked; rows another dispatcher has locked are skipped rather than waited for.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT m FROM OutboxEmail m WHERE m.status = :status AND m.nextAttemptAt <= :now ORDER BY m.id")
+    List<OutboxEmail> findDueForUpdate(@Param("status") EEmailStatus status, @Param("now") ZonedDateTime now, Limit limit);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEmail m WHERE m.status = :status AND m.sentAt < :before")
+    int deleteByStatusAndSentAtBefore(@Param("status") EEmailStatus status, @Param("before") ZonedDateTime before);
+}
@@ -2,15 +2,51 @@
 package de.saarland.events.repository;
 
 import de.saarland.events.model.Reminder;
-import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.ZonedDateTime; // ИЗМЕНЕНО
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ReminderRepository extends JpaRepository<Reminder, Long> {
 
-    List<Reminder> findAllByRemindAtBeforeAndIsSentFalse(ZonedDateTime currentTime);
+    /**
+     * Due reminders, oldest first, locked; rows another node has claimed are skipped rather than waited for.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT r FROM Reminder r WHERE r.isSent = false AND r.remindAt <= :now ORDER BY r.remindAt, r.id")
+    List<Reminder> claimDue(@Param("now") ZonedDateTime now, Limit limit);
+
+    /**
+     * The given reminders that are still unsent, locked like {@link #claimDue}.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT r FROM Reminder r WHERE r.isSent = false AND r.id IN :ids")
+    List<Reminder> claimUnsent(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT DISTINCT r FROM Reminder r JOIN FETCH r.user JOIN FETCH r.event e LEFT JOIN FETCH e.translations WHERE r.id IN :ids")
+    List<Reminder> findAllWithUserAndEventByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE Reminder r SET r.isSent = true WHERE r.id IN :ids")
+    int markSent(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT r.id, r.remindAt FROM Reminder r WHERE r.isSent = false AND r.remindAt <= :until")
+    List<Object[]> findUnsentDueBefore(@Param("until") ZonedDateTime until);
+
+    /**
+     * Number of due reminders not yet sent and the time the oldest of them was due.
+     */
+    @Query("SELECT COUNT(r), MIN(r.remindAt) FROM Reminder r WHERE r.isSent = false AND r.remindAt <= :now")
+    List<Object[]> findBacklog(@Param("now") ZonedDateTime now);
+
     void deleteAllByEventId(Long eventId);
-}
\ No newline at end of file
+}
@@ -4,6 +4,8 @@ package de.saarland.events.repository;
 
 import de.saarland.events.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import de.saarland.events.model.Event;
@@ -20,4 +22,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByResetPasswordToken(String token);
 
     List<User> findByFavoriteEventsContains(Event event);
+
+    @Query("SELECT e.id FROM User u JOIN u.favoriteEvents e WHERE u.id = :userId ORDER BY e.eventDate ASC, e.id ASC")
+    List<Long> findFavoriteEventIds(@Param("userId") Long userId);
 }
\ No newline at end of file
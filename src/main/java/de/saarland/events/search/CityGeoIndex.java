@@ -0,0 +1,95 @@
+package de.saarland.events.search;
+
+import de.saarland.events.dto.CityDto;
+import de.saarland.events.dto.GeoRadius;
+
+import java.util.*;
+
+/**
+ * Immutable grid index over city coordinates. Cities are bucketed into cells of {@value #CELL_DEGREES} degrees;
+ * a radius query visits only the cells overlapping the query's bounding box and checks the haversine distance
+ * of the cities found there. Cities without coordinates are not indexed.
+ */
+public final class CityGeoIndex {
+
+    public static final CityGeoIndex EMPTY = new CityGeoIndex(List.of());
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE = EARTH_RADIUS_KM * Math.PI / 180;
+    private static final double CELL_DEGREES = 0.25;
+    private static final int COLUMNS = (int) Math.ceil(360 / CELL_DEGREES);
+
+    private record Point(Long cityId, double latitude, double longitude) {
+    }
+
+    private final Map<Integer, List<Point>> cells;
+
+    private CityGeoIndex(Collection<CityDto> cities) {
+        Map<Integer, List<Point>> grid = new HashMap<>();
+        for (CityDto city : cities) {
+            if (city.getLatitude() == null || city.getLongitude() == null) {
+                continue;
+            }
+            Point point = new Point(city.getId(), city.getLatitude(), city.getLongitude());
+            grid.computeIfAbsent(cell(row(point.latitude()), column(point.longitude())), k -> new ArrayList<>()).add(point);
+        }
+        Map<Integer, List<Point>> frozen = new HashMap<>();
+        grid.forEach((cell, points) -> frozen.put(cell, List.copyOf(points)));
+        this.cells = Map.copyOf(frozen);
+    }
+
+    public static CityGeoIndex of(Collection<CityDto> cities) {
+        return new CityGeoIndex(cities);
+    }
+
+    /**
+     * Cities inside the area with their distance from its centre in kilometres, nearest first.
+     */
+    public Map<Long, Double> within(GeoRadius area) {
+        double latitudeSpan = area.radiusKm() / KM_PER_DEGREE;
+        double cosLatitude = Math.cos(Math.toRadians(Math.min(90, Math.abs(area.latitude()) + latitudeSpan)));
+        double longitudeSpan = cosLatitude < 1e-6 ? 180 : Math.min(180, latitudeSpan / cosLatitude);
+
+        int firstRow = row(Math.max(-90, area.latitude() - latitudeSpan));
+        int lastRow = row(Math.min(90, area.latitude() + latitudeSpan));
+        int firstColumn = column(area.longitude() - longitudeSpan);
+        int columnCount = Math.min(COLUMNS, column(area.longitude() + longitudeSpan) - firstColumn + 1);
+
+        List<Map.Entry<Long, Double>> hits = new ArrayList<>();
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column < firstColumn + columnCount; column++) {
+                for (Point point : cells.getOrDefault(cell(row, column), List.of())) {
+                    double distance = distanceKm(area.latitude(), area.longitude(), point.latitude(), point.longitude());
+                    if (distance <= area.radiusKm()) {
+                        hits.add(Map.entry(point.cityId(), distance));
+                    }
+                }
+            }
+        }
+        hits.sort(Map.Entry.comparingByValue());
+        Map<Long, Double> result = new LinkedHashMap<>();
+        hits.forEach(hit -> result.put(hit.getKey(), hit.getValue()));
+        return result;
+    }
+
+    static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private static int row(double latitude) {
+        return (int) Math.floor((latitude + 90) / CELL_DEGREES);
+    }
+
+    private static int column(double longitude) {
+        return (int) Math.floor((longitude + 180) / CELL_DEGREES);
+    }
+
+    // Columns wrap around the antimeridian.
+    private static int cell(int row, int column) {
+        return row * COLUMNS + Math.floorMod(column, COLUMNS);
+    }
+}
@@ -0,0 +1,108 @@
+package de.saarland.events.search;
+
+/**
+ * Step 1 of the Porter stemmer: folds plurals and -ed/-ing forms, which covers most listing searches.
+ */
+final class EnglishStemmer {
+
+    private EnglishStemmer() {
+    }
+
+    static String stem(String word) {
+        if (word.length() < 3) {
+            return word;
+        }
+        String w = step1a(word);
+        w = step1b(w);
+        return step1c(w);
+    }
+
+    private static String step1a(String w) {
+        if (w.endsWith("sses")) return w.substring(0, w.length() - 2);
+        if (w.endsWith("ies")) return w.substring(0, w.length() - 2);
+        if (w.endsWith("ss")) return w;
+        if (w.endsWith("s")) return w.substring(0, w.length() - 1);
+        return w;
+    }
+
+    private static String step1b(String w) {
+        if (w.endsWith("eed")) {
+            String stem = w.substring(0, w.length() - 3);
+            return measure(stem) > 0 ? stem + "ee" : w;
+        }
+        String stem;
+        if (w.endsWith("ed")) {
+            stem = w.substring(0, w.length() - 2);
+        } else if (w.endsWith("ing")) {
+            stem = w.substring(0, w.length() - 3);
+        } else {
+            return w;
+        }
+        if (!containsVowel(stem)) {
+            return w;
+        }
+        if (stem.endsWith("at") || stem.endsWith("bl") || stem.endsWith("iz")) {
+            return stem + "e";
+        }
+        int len = stem.length();
+        if (len >= 2 && stem.charAt(len - 1) == stem.charAt(len - 2) && isConsonant(stem, len - 1)) {
+            char last = stem.charAt(len - 1);
+            if (last != 'l' && last != 's' && last != 'z') {
+                return stem.substring(0, len - 1);
+            }
+        }
+        if (measure(stem) == 1 && endsCvc(stem)) {
+            return stem + "e";
+        }
+        return stem;
+    }
+
+    private static String step1c(String w) {
+        if (w.endsWith("y") && containsVowel(w.substring(0, w.length() - 1))) {
+            return w.substring(0, w.length() - 1) + "i";
+        }
+        return w;
+    }
+
+    private static boolean isConsonant(String w, int i) {
+        char c = w.charAt(i);
+        return switch (c) {
+            case 'a', 'e', 'i', 'o', 'u' -> false;
+            case 'y' -> i == 0 || !isConsonant(w, i - 1);
+            default -> true;
+        };
+    }
+
+    private static boolean containsVowel(String w) {
+        for (int i = 0; i < w.length(); i++) {
+            if (!isConsonant(w, i)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int measure(String w) {
+        int m = 0;
+        int i = 0;
+        int len = w.length();
+        while (i < len && isConsonant(w, i)) i++;
+        while (i < len) {
+            while (i < len && !isConsonant(w, i)) i++;
+            if (i >= len) break;
+            while (i < len && isConsonant(w, i)) i++;
+            m++;
+        }
+        return m;
+    }
+
+    private static boolean endsCvc(String w) {
+        int len = w.length();
+        if (len < 3) {
+            return false;
+        }
+        char last = w.charAt(len - 1);
+        return isConsonant(w, len - 3) && !isConsonant(w, len - 2) && isConsonant(w, len - 1)
+                && last != 'w' && last != 'x' && last != 'y';
+    }
+}
@@ -0,0 +1,272 @@
+package de.saarland.events.search;
+
+import de.saarland.events.model.Event;
+import de.saarland.events.model.Translation;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted index over event translations, one BM25 index per locale. The name field is weighted above the
+ * description; all query terms must match, and the last one also matches as a prefix so partial input works.
+ */
+@Component
+public class EventSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final float NAME_WEIGHT = 3.0f;
+    private static final float DESCRIPTION_WEIGHT = 1.0f;
+    private static final double PREFIX_WEIGHT = 0.5;
+    private static final int MIN_PREFIX_LENGTH = 3;
+    private static final int MAX_PREFIX_EXPANSIONS = 50;
+
+    private final Map<String, LocaleIndex> locales = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void index(Event event) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(event.getId());
+            addInternal(event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long eventId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(eventId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void rebuild(Collection<Event> events) {
+        lock.writeLock().lock();
+        try {
+            locales.clear();
+            events.forEach(this::addInternal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void retainAll(Set<Long> eventIds) {
+        lock.writeLock().lock();
+        try {
+            Set<Long> stale = new HashSet<>();
+            for (LocaleIndex index : locales.values()) {
+                for (Long id : index.docOfEvent.keySet()) {
+                    if (!eventIds.contains(id)) {
+                        stale.add(id);
+                    }
+                }
+            }
+            stale.forEach(this::removeInternal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the BM25 score of every matching event; an event matching in several locales keeps its best score.
+     */
+    public Map<Long, Double> search(String query) {
+        List<String> tokens = TextAnalyzer.tokenize(query).stream().distinct().toList();
+        if (tokens.isEmpty()) {
+            return Map.of();
+        }
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = new HashMap<>(256);
+            for (LocaleIndex index : locales.values()) {
+                index.search(tokens, scores);
+            }
+            return scores;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addInternal(Event event) {
+        for (Translation translation : event.getTranslations()) {
+            if (translation.getLocale() != null) {
+                String locale = translation.getLocale().toLowerCase(Locale.ROOT);
+                locales.computeIfAbsent(locale, LocaleIndex::new).add(event.getId(), translation);
+            }
+        }
+    }
+
+    private void removeInternal(Long eventId) {
+        for (LocaleIndex index : locales.values()) {
+            index.remove(eventId);
+        }
+    }
+
+    /**
+     * Postings keep internal document numbers in ascending order, so appends stay sorted and removals are a
+     * binary search plus an array shift. Document numbers are not reused; a rebuild compacts them.
+     */
+    private static final class LocaleIndex {
+
+        private final TextAnalyzer analyzer;
+        private final Map<String, Postings> postings = new HashMap<>();
+        private final TreeSet<String> vocabulary = new TreeSet<>();
+        private final Map<Long, Integer> docOfEvent = new HashMap<>();
+        private long[] docEvents = new long[16];
+        private float[] docLengths = new float[16];
+        private String[][] docTerms = new String[16][];
+        private int nextDoc = 0;
+        private double totalLength = 0;
+
+        LocaleIndex(String locale) {
+            this.analyzer = TextAnalyzer.forLocale(locale);
+        }
+
+        void add(Long eventId, Translation translation) {
+            remove(eventId);
+            Map<String, Float> frequencies = new HashMap<>();
+            float length = 0;
+            for (String term : analyzer.analyze(translation.getName())) {
+                frequencies.merge(term, NAME_WEIGHT, Float::sum);
+                length += NAME_WEIGHT;
+            }
+            for (String term : analyzer.analyze(translation.getDescription())) {
+                frequencies.merge(term, DESCRIPTION_WEIGHT, Float::sum);
+                length += DESCRIPTION_WEIGHT;
+            }
+
+            int doc = nextDoc++;
+            if (doc == docEvents.length) {
+                int capacity = docEvents.length * 2;
+                docEvents = Arrays.copyOf(docEvents, capacity);
+                docLengths = Arrays.copyOf(docLengths, capacity);
+                docTerms = Arrays.copyOf(docTerms, capacity);
+            }
+            docEvents[doc] = eventId;
+            docLengths[doc] = length;
+            docTerms[doc] = frequencies.keySet().toArray(new String[0]);
+            docOfEvent.put(eventId, doc);
+            totalLength += length;
+            frequencies.forEach((term, tf) -> postings.computeIfAbsent(term, k -> {
+                vocabulary.add(k);
+                return new Postings();
+            }).append(doc, tf));
+        }
+
+        void remove(Long eventId) {
+            Integer doc = docOfEvent.remove(eventId);
+            if (doc == null) {
+                return;
+            }
+            totalLength -= docLengths[doc];
+            for (String term : docTerms[doc]) {
+                Postings list = postings.get(term);
+                if (list != null && list.remove(doc) && list.size == 0) {
+                    postings.remove(term);
+                    vocabulary.remove(term);
+                }
+            }
+            docTerms[doc] = null;
+        }
+
+        void search(List<String> tokens, Map<Long, Double> scores) {
+            int documentCount = docOfEvent.size();
+            if (documentCount == 0) {
+                return;
+            }
+            double avgLength = totalLength / documentCount;
+            double[] totals = new double[nextDoc];
+            int[] matched = new int[nextDoc];
+            List<Postings> firstTokenLists = null;
+
+            for (int t = 0; t < tokens.size(); t++) {
+                String token = tokens.get(t);
+                String term = analyzer.stem(token);
+                List<Postings> alternatives = new ArrayList<>();
+                List<Double> weights = new ArrayList<>();
+                Postings exact = postings.get(term);
+                if (exact != null) {
+                    alternatives.add(exact);
+                    weights.add(1.0);
+                }
+                if (t == tokens.size() - 1 && token.length() >= MIN_PREFIX_LENGTH) {
+                    int expansions = 0;
+                    for (String candidate : vocabulary.subSet(token, true, token + Character.MAX_VALUE, false)) {
+                        if (candidate.equals(term)) {
+                            continue;
+                        }
+                        alternatives.add(postings.get(candidate));
+                        weights.add(PREFIX_WEIGHT);
+                        if (++expansions >= MAX_PREFIX_EXPANSIONS) {
+                            break;
+                        }
+                    }
+                }
+                if (alternatives.isEmpty()) {
+                    return;
+                }
+                if (t == 0) {
+                    firstTokenLists = alternatives;
+                }
+
+                for (int a = 0; a < alternatives.size(); a++) {
+                    Postings list = alternatives.get(a);
+                    double idf = Math.log(1 + (documentCount - list.size + 0.5) / (list.size + 0.5));
+                    double weight = weights.get(a);
+                    for (int i = 0; i < list.size; i++) {
+                        int doc = list.docs[i];
+                        if (matched[doc] < t) {
+                            continue;
+                        }
+                        double tf = list.tfs[i];
+                        totals[doc] += weight * idf * tf * (K1 + 1) / (tf + K1 * (1 - B + B * docLengths[doc] / avgLength));
+                        matched[doc] = t + 1;
+                    }
+                }
+            }
+
+            int required = tokens.size();
+            for (Postings list : firstTokenLists) {
+                for (int i = 0; i < list.size; i++) {
+                    int doc = list.docs[i];
+                    if (matched[doc] == required) {
+                        scores.merge(docEvents[doc], totals[doc], Math::max);
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class Postings {
+
+        private int[] docs = new int[4];
+        private float[] tfs = new float[4];
+        private int size = 0;
+
+        void append(int doc, float tf) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                tfs = Arrays.copyOf(tfs, size * 2);
+            }
+            docs[size] = doc;
+            tfs[size] = tf;
+            size++;
+        }
+
+        boolean remove(int doc) {
+            int index = Arrays.binarySearch(docs, 0, size, doc);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(docs, index + 1, docs, index, size - index - 1);
+            System.arraycopy(tfs, index + 1, tfs, index, size - index - 1);
+            size--;
+            return true;
+        }
+    }
+}
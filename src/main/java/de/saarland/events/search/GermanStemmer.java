@@ -0,0 +1,67 @@
+package de.saarland.events.search;
+
+/**
+ * CISTEM stemmer (Weissweiler &amp; Fraser, 2017) for already lower-cased, umlaut-folded German words. Input has
+ * lost its capitalisation, so the final-t rule (which CISTEM only applies to non-nouns) is left out.
+ */
+final class GermanStemmer {
+
+    private GermanStemmer() {
+    }
+
+    static String stem(String word) {
+        if (word.length() < 4) {
+            return word;
+        }
+        StringBuilder w = new StringBuilder(word);
+        if (w.length() >= 6 && w.charAt(0) == 'g' && w.charAt(1) == 'e') {
+            w.delete(0, 2);
+        }
+        replaceAll(w, "sch", "$");
+        replaceAll(w, "ei", "%");
+        replaceAll(w, "ie", "&");
+        for (int i = 1; i < w.length(); i++) {
+            if (w.charAt(i) == w.charAt(i - 1)) {
+                w.setCharAt(i, '*');
+            }
+        }
+
+        while (w.length() > 3) {
+            int len = w.length();
+            if (len > 5) {
+                if (w.charAt(len - 2) == 'e' && (w.charAt(len - 1) == 'm' || w.charAt(len - 1) == 'r')) {
+                    w.setLength(len - 2);
+                    continue;
+                }
+                if (w.charAt(len - 2) == 'n' && w.charAt(len - 1) == 'd') {
+                    w.setLength(len - 2);
+                    continue;
+                }
+            }
+            char last = w.charAt(len - 1);
+            if (last == 'e' || last == 's' || last == 'n') {
+                w.setLength(len - 1);
+                continue;
+            }
+            break;
+        }
+
+        for (int i = 1; i < w.length(); i++) {
+            if (w.charAt(i) == '*') {
+                w.setCharAt(i, w.charAt(i - 1));
+            }
+        }
+        replaceAll(w, "%", "ei");
+        replaceAll(w, "&", "ie");
+        replaceAll(w, "$", "sch");
+        return w.toString();
+    }
+
+    private static void replaceAll(StringBuilder w, String from, String to) {
+        int index = w.indexOf(from);
+        while (index >= 0) {
+            w.replace(index, index + from.length(), to);
+            index = w.indexOf(from, index + to.length());
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package de.saarland.events.search;
+
+final class Hashing {
+
+    private Hashing() {
+    }
+
+    /**
+     * 64-bit hash of a string; different seeds give independent hash functions.
+     */
+    static long hash64(CharSequence value, long seed) {
+        long h = seed ^ value.length();
+        for (int i = 0; i < value.length(); i++) {
+            h = (h ^ value.charAt(i)) * 0xBF58476D1CE4E5B9L;
+            h ^= h >>> 29;
+        }
+        // SplitMix64 finaliser, so every input bit affects every output bit.
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        return h ^ (h >>> 31);
+    }
+}
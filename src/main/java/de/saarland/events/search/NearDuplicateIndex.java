@@ -0,0 +1,167 @@
+package de.saarland.events.search;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * SimHash fingerprints of events, one per translation, partitioned by city and day. A lookup only compares against
+ * the events of one city within a few days, so its cost depends on how busy those days are, not on the total number
+ * of events. Fingerprints are only compared within a locale; an event's score is the best over the shared locales.
+ */
+@Component
+public class NearDuplicateIndex {
+
+    /**
+     * @param fingerprints SimHash per locale
+     */
+    public record Document(Long eventId, Long cityId, LocalDate date, Map<String, Long> fingerprints) {
+    }
+
+    private record Entry(long eventId, long cityId, long day, String[] locales, long[] fingerprints) {
+    }
+
+    private record Partition(long cityId, long day) {
+    }
+
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Map<Partition, List<Entry>> partitions = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void index(Document document) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(document.eventId());
+            addInternal(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long eventId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(eventId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void rebuild(Collection<Document> documents) {
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            partitions.clear();
+            documents.forEach(this::addInternal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Indexed events similar to an indexed event; empty if the event is not indexed.
+     *
+     * @see #similar(Document, int, double, int)
+     */
+    public Map<Long, Double> similar(Long eventId, int windowDays, double minSimilarity, int limit) {
+        lock.readLock().lock();
+        try {
+            Entry entry = entries.get(eventId);
+            return entry == null ? Map.of() : similarInternal(entry, windowDays, minSimilarity, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Other indexed events in the same city at most {@code windowDays} days apart whose similarity is at least
+     * {@code minSimilarity}, most similar first.
+     */
+    public Map<Long, Double> similar(Document document, int windowDays, double minSimilarity, int limit) {
+        Entry probe = toEntry(document);
+        lock.readLock().lock();
+        try {
+            return similarInternal(probe, windowDays, minSimilarity, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<Long, Double> similarInternal(Entry probe, int windowDays, double minSimilarity, int limit) {
+        List<Map.Entry<Long, Double>> hits = new ArrayList<>();
+        for (long day = probe.day() - windowDays; day <= probe.day() + windowDays; day++) {
+            for (Entry candidate : partitions.getOrDefault(new Partition(probe.cityId(), day), List.of())) {
+                if (candidate.eventId() == probe.eventId()) {
+                    continue;
+                }
+                double similarity = similarity(probe, candidate);
+                if (similarity >= minSimilarity) {
+                    hits.add(Map.entry(candidate.eventId(), similarity));
+                }
+            }
+        }
+        hits.sort(Map.Entry.<Long, Double>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+        Map<Long, Double> result = new LinkedHashMap<>();
+        hits.stream().limit(limit).forEach(hit -> result.put(hit.getKey(), hit.getValue()));
+        return result;
+    }
+
+    private static double similarity(Entry a, Entry b) {
+        double best = 0;
+        for (int i = 0; i < a.locales().length; i++) {
+            for (int j = 0; j < b.locales().length; j++) {
+                if (a.locales()[i].equals(b.locales()[j])) {
+                    best = Math.max(best, SimHash.similarity(a.fingerprints()[i], b.fingerprints()[j]));
+                }
+            }
+        }
+        return best;
+    }
+
+    private void addInternal(Document document) {
+        if (document.fingerprints().isEmpty()) {
+            return;
+        }
+        Entry entry = toEntry(document);
+        entries.put(entry.eventId(), entry);
+        partitions.computeIfAbsent(new Partition(entry.cityId(), entry.day()), k -> new ArrayList<>()).add(entry);
+    }
+
+    private void removeInternal(Long eventId) {
+        Entry entry = entries.remove(eventId);
+        if (entry == null) {
+            return;
+        }
+        Partition partition = new Partition(entry.cityId(), entry.day());
+        List<Entry> partitionEntries = partitions.get(partition);
+        partitionEntries.remove(entry);
+        if (partitionEntries.isEmpty()) {
+            partitions.remove(partition);
+        }
+    }
+
+    private static Entry toEntry(Document document) {
+        String[] locales = new String[document.fingerprints().size()];
+        long[] fingerprints = new long[locales.length];
+        int i = 0;
+        for (Map.Entry<String, Long> fingerprint : document.fingerprints().entrySet()) {
+            // a handful of distinct locales across hundreds of thousands of entries
+            locales[i] = fingerprint.getKey().intern();
+            fingerprints[i] = fingerprint.getValue();
+            i++;
+        }
+        return new Entry(document.eventId(), document.cityId(), document.date().toEpochDay(), locales, fingerprints);
+    }
+}
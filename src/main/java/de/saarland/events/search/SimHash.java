@@ -0,0 +1,70 @@
+package de.saarland.events.search;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * 64-bit SimHash fingerprints of event texts. The text is analyzed and every character 4-gram of the resulting terms
+ * votes on each bit with its hash, so texts sharing most 4-grams end up with fingerprints that differ in few bits and
+ * the share of equal bits estimates how similar the texts are. Character grams rather than whole terms keep small
+ * spelling changes ("Livemusik", "Live-Musik") from counting as entirely different words.
+ */
+public final class SimHash {
+
+    private static final long SEED = 0x2545F4914F6CDD1DL;
+    private static final int NAME_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final int SHINGLE = 4;
+
+    private SimHash() {
+    }
+
+    /**
+     * @return the fingerprint, or empty if neither text contains a word
+     */
+    public static OptionalLong fingerprint(String locale, String name, String description) {
+        TextAnalyzer analyzer = TextAnalyzer.forLocale(locale);
+        int[] votes = new int[Long.SIZE];
+        int features = vote(votes, analyzer.analyze(name), NAME_WEIGHT)
+                + vote(votes, analyzer.analyze(description), DESCRIPTION_WEIGHT);
+        if (features == 0) {
+            return OptionalLong.empty();
+        }
+        long fingerprint = 0;
+        for (int bit = 0; bit < Long.SIZE; bit++) {
+            if (votes[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return OptionalLong.of(fingerprint);
+    }
+
+    /**
+     * Share of equal bits, from 0 to 1.
+     */
+    public static double similarity(long a, long b) {
+        return 1 - (double) Long.bitCount(a ^ b) / Long.SIZE;
+    }
+
+    // Grams run across term boundaries, so word order still counts a little.
+    private static int vote(int[] votes, List<String> terms, int weight) {
+        String text = String.join(" ", terms);
+        if (text.length() <= SHINGLE) {
+            if (!text.isEmpty()) {
+                vote(votes, text, weight);
+            }
+            return terms.size();
+        }
+        for (int i = 0; i + SHINGLE <= text.length(); i++) {
+            vote(votes, text.substring(i, i + SHINGLE), weight);
+        }
+        return terms.size();
+    }
+
+    private static void vote(int[] votes, String feature, int weight) {
+        long hash = Hashing.hash64(feature, SEED);
+        for (int bit = 0; bit < Long.SIZE; bit++) {
+            votes[bit] += (hash >>> bit & 1) != 0 ? weight : -weight;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package de.saarland.events.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.UnaryOperator;
+
+/**
+ * Turns free text into index terms: word-boundary tokenization, lower-casing, umlaut/ß/diacritic folding and
+ * a locale-specific stemmer (German and English; other locales are folded only).
+ */
+public final class TextAnalyzer {
+
+    private static final TextAnalyzer GERMAN = new TextAnalyzer(GermanStemmer::stem);
+    private static final TextAnalyzer ENGLISH = new TextAnalyzer(EnglishStemmer::stem);
+    private static final TextAnalyzer FOLDING = new TextAnalyzer(UnaryOperator.identity());
+
+    private final UnaryOperator<String> stemmer;
+
+    private TextAnalyzer(UnaryOperator<String> stemmer) {
+        this.stemmer = stemmer;
+    }
+
+    public static TextAnalyzer forLocale(String locale) {
+        if (locale == null) {
+            return FOLDING;
+        }
+        return switch (locale.toLowerCase(Locale.ROOT)) {
+            case "de" -> GERMAN;
+            case "en" -> ENGLISH;
+            default -> FOLDING;
+        };
+    }
+
+    public List<String> analyze(String text) {
+        List<String> tokens = tokenize(text);
+        List<String> terms = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            terms.add(stem(token));
+        }
+        return terms;
+    }
+
+    public String stem(String token) {
+        return stemmer.apply(token);
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        String folded = fold(text);
+        int start = -1;
+        for (int i = 0; i < folded.length(); i++) {
+            if (Character.isLetterOrDigit(folded.charAt(i))) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                tokens.add(folded.substring(start, i));
+                start = -1;
+            }
+        }
+        if (start >= 0) {
+            tokens.add(folded.substring(start));
+        }
+        return tokens;
+    }
+
+    public static String fold(String text) {
+        String lower = text.toLowerCase(Locale.ROOT)
+                .replace("ß", "ss")
+                .replace("ẞ", "ss");
+        String decomposed = Normalizer.normalize(lower, Normalizer.Form.NFD);
+        StringBuilder folded = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) != Character.NON_SPACING_MARK) {
+                folded.append(c);
+            }
+        }
+        return folded.toString();
+    }
+}
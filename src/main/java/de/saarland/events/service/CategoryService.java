@@ -13,9 +13,13 @@ import java.util.Optional;
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final DataVersionRegistry dataVersionRegistry;
+    private final ReferenceDataRegistry referenceDataRegistry;
 
-    public CategoryService(CategoryRepository categoryRepository) {
+    public CategoryService(CategoryRepository categoryRepository, DataVersionRegistry dataVersionRegistry, ReferenceDataRegistry referenceDataRegistry) {
         this.categoryRepository = categoryRepository;
+        this.dataVersionRegistry = dataVersionRegistry;
+        this.referenceDataRegistry = referenceDataRegistry;
     }
 
 
@@ -37,12 +41,17 @@ public class CategoryService {
 
             throw new IllegalArgumentException("Category with name '" + category.getName() + "' already exists.");
         }
-        return categoryRepository.save(category);
+        Category savedCategory = categoryRepository.save(category);
+        dataVersionRegistry.categoriesChanged();
+        referenceDataRegistry.categoriesChanged();
+        return savedCategory;
     }
 
 
     public void deleteCategory(Long id) {
         categoryRepository.deleteById(id);
+        dataVersionRegistry.categoriesChanged();
+        referenceDataRegistry.categoriesChanged();
     }
     @Transactional
     public Category updateCategory(Long id, Category categoryDetails) {
@@ -52,6 +61,9 @@ public class CategoryService {
         existingCategory.setName(categoryDetails.getName());
         existingCategory.setDescription(categoryDetails.getDescription());
 
-        return categoryRepository.save(existingCategory);
+        Category savedCategory = categoryRepository.save(existingCategory);
+        dataVersionRegistry.categoriesChanged();
+        referenceDataRegistry.categoriesChanged();
+        return savedCategory;
     }
 }
\ No newline at end of file
@@ -13,9 +13,13 @@ import java.util.Optional;
 public class CityService {
 
     private final CityRepository cityRepository;
+    private final DataVersionRegistry dataVersionRegistry;
+    private final ReferenceDataRegistry referenceDataRegistry;
 
-    public CityService(CityRepository cityRepository) {
+    public CityService(CityRepository cityRepository, DataVersionRegistry dataVersionRegistry, ReferenceDataRegistry referenceDataRegistry) {
         this.cityRepository = cityRepository;
+        this.dataVersionRegistry = dataVersionRegistry;
+        this.referenceDataRegistry = referenceDataRegistry;
     }
 
     @Transactional(readOnly = true)
@@ -30,8 +34,10 @@ public class CityService {
 
     @Transactional
     public City saveCity(City city) {
-
-        return cityRepository.save(city);
+        City savedCity = cityRepository.save(city);
+        dataVersionRegistry.citiesChanged();
+        referenceDataRegistry.citiesChanged();
+        return savedCity;
     }
 
     @Transactional
@@ -40,6 +46,8 @@ public class CityService {
             throw new EntityNotFoundException("Cannot delete. City with ID " + id + " not found.");
         }
         cityRepository.deleteById(id);
+        dataVersionRegistry.citiesChanged();
+        referenceDataRegistry.citiesChanged();
     }
 
     @Transactional
@@ -54,6 +62,9 @@ public class CityService {
         }
 
         existingCity.setName(cityDetails.getName());
-        return cityRepository.save(existingCity);
+        City savedCity = cityRepository.save(existingCity);
+        dataVersionRegistry.citiesChanged();
+        referenceDataRegistry.citiesChanged();
+        return savedCity;
     }
 }
\ No newline at end of file
@@ -0,0 +1,156 @@
+package de.saarland.events.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Monotonic versions of the public datasets (events, cities, categories) and of single events, used to answer
+ * conditional GETs without touching the database. Write paths bump a version once their transaction commits.
+ * Versions are drawn from one counter seeded with the startup time, so ETags from before a restart never match.
+ * At most {@code max-entries} single-event versions are kept; beyond that they are dropped and every event without
+ * one falls back to the listing version of that moment, which is at least as new as any version dropped.
+ */
+@Component
+public class DataVersionRegistry {
+
+    public record Validator(String etag, long lastModified) {
+    }
+
+    private record Version(long value, long lastModified) {
+    }
+
+    private final AtomicLong sequence = new AtomicLong(System.currentTimeMillis());
+    private final Version initial = new Version(sequence.get(), truncateToSeconds(System.currentTimeMillis()));
+    private final Map<Long, Version> eventVersions = new ConcurrentHashMap<>();
+    private final int maxEventVersions;
+    private volatile Version eventFloor = initial;
+    private volatile Version events = initial;
+    private volatile Version cities = initial;
+    private volatile Version categories = initial;
+    private final List<Consumer<Long>> eventListeners = new CopyOnWriteArrayList<>();
+
+    public DataVersionRegistry(@Value("${app.events.versions.max-entries:10000}") int maxEventVersions) {
+        this.maxEventVersions = maxEventVersions;
+    }
+
+    /**
+     * Validator for event listings; they embed city and category data, so those versions take part too.
+     */
+    public Validator events() {
+        return validator("events", events, cities, categories);
+    }
+
+    public Validator event(Long eventId) {
+        return validator("event-" + eventId, eventVersions.getOrDefault(eventId, eventFloor), cities, categories);
+    }
+
+    public Validator cities() {
+        return validator("cities", cities);
+    }
+
+    public Validator categories() {
+        return validator("categories", categories);
+    }
+
+    /**
+     * Registers a callback run after commit with the ID of every event that changed or was removed.
+     */
+    public void onEventChanged(Consumer<Long> listener) {
+        eventListeners.add(listener);
+    }
+
+    public void eventChanged(Long eventId) {
+        eventsChanged(List.of(eventId));
+    }
+
+    /**
+     * Keeps the removed event's entry with a new version rather than dropping it, so an ETag from before its first
+     * change cannot match the initial version again.
+     */
+    public void eventRemoved(Long eventId) {
+        eventChanged(eventId);
+    }
+
+    /**
+     * Bumps the given events and the listings, e.g. after a reload found them changed elsewhere. An empty collection
+     * changes nothing, so a reload that found no changes keeps every validator.
+     */
+    public void eventsChanged(Collection<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> {
+            Version version = next();
+            eventIds.forEach(eventId -> eventVersions.put(eventId, version));
+            events = version;
+            if (eventVersions.size() > maxEventVersions) {
+                prune();
+            }
+            eventIds.forEach(eventId -> eventListeners.forEach(listener -> listener.accept(eventId)));
+        });
+    }
+
+    /**
+     * Marks the listings as changed without a specific event, e.g. after ended events were dropped.
+     */
+    public void eventsChanged() {
+        afterCommit(() -> events = next());
+    }
+
+    public void citiesChanged() {
+        afterCommit(() -> cities = next());
+    }
+
+    public void categoriesChanged() {
+        afterCommit(() -> categories = next());
+    }
+
+    // Every event without an entry changes its validator once, so none can match a state from before its last change.
+    private synchronized void prune() {
+        Version floor = events;
+        eventFloor = floor;
+        eventVersions.values().removeIf(version -> version.value() <= floor.value());
+    }
+
+    private Version next() {
+        return new Version(sequence.incrementAndGet(), truncateToSeconds(System.currentTimeMillis()));
+    }
+
+    private static Validator validator(String name, Version... parts) {
+        StringBuilder etag = new StringBuilder("\"").append(name);
+        long lastModified = 0;
+        for (Version part : parts) {
+            etag.append('-').append(Long.toString(part.value(), 36));
+            lastModified = Math.max(lastModified, part.lastModified());
+        }
+        return new Validator(etag.append('"').toString(), lastModified);
+    }
+
+    // Last-Modified has second precision; keeping it truncated makes If-Modified-Since comparisons exact.
+    private static long truncateToSeconds(long millis) {
+        return millis - millis % 1000;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package de.saarland.events.service;
+
+import de.saarland.events.repository.EventRepository;
+import de.saarland.events.repository.ReminderRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Fires reminders and premium expiries within about a second of their time. Every timer due within {@code horizon}
+ * is held in a {@link TimingWheel} that ticks once a second: the wheel is loaded from the database at startup and
+ * topped up every {@code refill-interval-ms}, and reminders and promotions created on this node are added as they
+ * commit. The database stays the source of truth; a firing timer only triggers the claim-based
+ * {@link ReminderTaskService} or a checked {@link PremiumCleanupService} expiry, so a stale or duplicate timer does
+ * nothing, and a timer lost with a node is picked up by the next refill on any node.
+ */
+@Component
+public class DeadlineScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeadlineScheduler.class);
+    private static final long TICK_MILLIS = 1000;
+    // three levels of 60 slots reach 60 hours ahead
+    private static final int WHEEL_SIZE = 60;
+    private static final int LEVELS = 3;
+
+    private enum Kind {REMINDER, PREMIUM_EXPIRY}
+
+    private record Timer(Kind kind, Long id) {
+    }
+
+    private final ReminderRepository reminderRepository;
+    private final EventRepository eventRepository;
+    private final ReminderTaskService reminderTaskService;
+    private final PremiumCleanupService premiumCleanupService;
+    private final TransactionTemplate loadTransaction;
+    private final Duration horizon;
+
+    private final TimingWheel<Timer> wheel = new TimingWheel<>(TICK_MILLIS, WHEEL_SIZE, LEVELS, System.currentTimeMillis());
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("deadline-ticker").daemon().factory());
+    private final ExecutorService handlers = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("deadline-", 0).factory());
+    private final AtomicBoolean remindersPending = new AtomicBoolean();
+
+    public DeadlineScheduler(ReminderRepository reminderRepository, EventRepository eventRepository, ReminderTaskService reminderTaskService,
+                             PremiumCleanupService premiumCleanupService, PlatformTransactionManager transactionManager,
+                             @Value("${app.deadlines.horizon:PT3H}") Duration horizon) {
+        this.reminderRepository = reminderRepository;
+        this.eventRepository = eventRepository;
+        this.reminderTaskService = reminderTaskService;
+        this.premiumCleanupService = premiumCleanupService;
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setReadOnly(true);
+        this.horizon = horizon;
+    }
+
+    /**
+     * Adds a reminder's timer once the current transaction commits, if it is due within the horizon.
+     */
+    public void reminderScheduled(Long reminderId, ZonedDateTime remindAt) {
+        afterCommit(() -> schedule(new Timer(Kind.REMINDER, reminderId), remindAt));
+    }
+
+    /**
+     * Adds or moves an event's premium expiry timer once the current transaction commits, if it is due within the
+     * horizon.
+     */
+    public void premiumScheduled(Long eventId, ZonedDateTime premiumUntil) {
+        afterCommit(() -> schedule(new Timer(Kind.PREMIUM_EXPIRY, eventId), premiumUntil));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        refill();
+        // tick just after each full second, when the timers rounded up to it are due
+        long initialDelay = TICK_MILLIS - System.currentTimeMillis() % TICK_MILLIS + 1;
+        ticker.scheduleAtFixedRate(() -> run(this::tick), initialDelay, TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Loads every timer due before the end of the horizon, including overdue ones, which fire on the next tick.
+     */
+    @Scheduled(fixedDelayString = "${app.deadlines.refill-interval-ms:900000}", initialDelayString = "${app.deadlines.refill-interval-ms:900000}")
+    public void refill() {
+        try {
+            ZonedDateTime until = ZonedDateTime.now().plus(horizon);
+            List<Object[]> reminders = new ArrayList<>();
+            List<Object[]> expiries = new ArrayList<>();
+            loadTransaction.executeWithoutResult(status -> {
+                reminders.addAll(reminderRepository.findUnsentDueBefore(until));
+                eventRepository.findByIsPremiumTrueAndPremiumUntilBefore(until)
+                        .forEach(event -> expiries.add(new Object[]{event.getId(), event.getPremiumUntil()}));
+            });
+            synchronized (wheel) {
+                reminders.forEach(row -> schedule(new Timer(Kind.REMINDER, (Long) row[0]), (ZonedDateTime) row[1]));
+                expiries.forEach(row -> schedule(new Timer(Kind.PREMIUM_EXPIRY, (Long) row[0]), (ZonedDateTime) row[1]));
+            }
+            logger.info("Deadline wheel refilled with {} reminders and {} premium expiries due before {}.", reminders.size(), expiries.size(), until);
+        } catch (RuntimeException ex) {
+            logger.error("Failed to refill the deadline wheel: {}", ex.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        ticker.shutdownNow();
+        handlers.shutdownNow();
+    }
+
+    private void schedule(Timer timer, ZonedDateTime at) {
+        long deadline = at.toInstant().toEpochMilli();
+        synchronized (wheel) {
+            if (deadline <= System.currentTimeMillis() + horizon.toMillis()) {
+                wheel.schedule(timer, deadline);
+            } else {
+                // loaded by a refill once it comes within the horizon; a moved expiry must not keep its earlier timer
+                wheel.cancel(timer);
+            }
+        }
+    }
+
+    private void tick() {
+        List<Timer> expired;
+        synchronized (wheel) {
+            expired = wheel.advance(System.currentTimeMillis());
+        }
+        if (expired.isEmpty()) {
+            return;
+        }
+        List<Long> expiredPremiums = new ArrayList<>();
+        boolean reminderDue = false;
+        for (Timer timer : expired) {
+            if (timer.kind() == Kind.REMINDER) {
+                reminderDue = true;
+            } else {
+                expiredPremiums.add(timer.id());
+            }
+        }
+        // one claim run sends every due reminder, so runs already queued absorb new timers
+        if (reminderDue && remindersPending.compareAndSet(false, true)) {
+            handlers.execute(() -> {
+                remindersPending.set(false);
+                run(reminderTaskService::processReminders);
+            });
+        }
+        if (!expiredPremiums.isEmpty()) {
+            handlers.execute(() -> run(() -> premiumCleanupService.expire(expiredPremiums)));
+        }
+    }
+
+    private static void run(Runnable handler) {
+        try {
+            handler.run();
+        } catch (RuntimeException ex) {
+            // an exception escaping the ticker would cancel it for good
+            logger.error("Deadline handler failed: {}", ex.getMessage(), ex);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
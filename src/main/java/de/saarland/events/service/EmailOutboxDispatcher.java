@@ -0,0 +1,228 @@
+package de.saarland.events.service;
+
+import com.sendgrid.Method;
+import com.sendgrid.Request;
+import com.sendgrid.Response;
+import com.sendgrid.SendGrid;
+import com.sendgrid.helpers.mail.Mail;
+import com.sendgrid.helpers.mail.objects.Content;
+import com.sendgrid.helpers.mail.objects.Email;
+import com.sendgrid.helpers.mail.objects.Personalization;
+import de.saarland.events.model.EEmailStatus;
+import de.saarland.events.model.EEmailTemplate;
+import de.saarland.events.model.OutboxEmail;
+import de.saarland.events.repository.OutboxEmailRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delivers the {@code email_outbox} through SendGrid on a background thread. Due messages are claimed under a row lock
+ * that other instances skip, leased for a while so a crashed dispatcher's messages come due again, and sent with one
+ * request per template carrying a personalization per recipient. Failed messages are retried with exponential backoff
+ * until {@code max-attempts}; the outcome of every message is recorded in its row.
+ */
+@Component
+public class EmailOutboxDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmailOutboxDispatcher.class);
+    // SendGrid accepts at most 1000 personalizations per request
+    private static final int MAX_PERSONALIZATIONS = 1000;
+    private static final Duration MAX_RETRY_DELAY = Duration.ofHours(6);
+
+    private record Outcome(boolean sent, boolean retry, String error) {
+    }
+
+    private final OutboxEmailRepository outboxEmailRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final SendGrid sendGrid;
+    private final String fromEmail;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retryDelay;
+    private final Duration lease;
+    private final Duration pollInterval;
+    private final Duration linger;
+    private final Duration retention;
+
+    private final Semaphore wakeUps = new Semaphore(0);
+    private final ExecutorService dispatcherThread = Executors.newSingleThreadExecutor(
+            Thread.ofVirtual().name("email-outbox").factory());
+
+    public EmailOutboxDispatcher(OutboxEmailRepository outboxEmailRepository, PlatformTransactionManager transactionManager,
+                                 @Value("${SENDGRID_API_KEY}") String sendGridApiKey,
+                                 @Value("${app.email.from}") String fromEmail,
+                                 @Value("${app.email.outbox.batch-size:100}") int batchSize,
+                                 @Value("${app.email.outbox.max-attempts:8}") int maxAttempts,
+                                 @Value("${app.email.outbox.retry-delay:PT1M}") Duration retryDelay,
+                                 @Value("${app.email.outbox.lease:PT5M}") Duration lease,
+                                 @Value("${app.email.outbox.poll-interval:PT30S}") Duration pollInterval,
+                                 @Value("${app.email.outbox.linger:PT0.2S}") Duration linger,
+                                 @Value("${app.email.outbox.retention:P30D}") Duration retention) {
+        this.outboxEmailRepository = outboxEmailRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.sendGrid = new SendGrid(sendGridApiKey);
+        this.fromEmail = fromEmail;
+        this.batchSize = Math.min(batchSize, MAX_PERSONALIZATIONS);
+        this.maxAttempts = maxAttempts;
+        this.retryDelay = retryDelay;
+        this.lease = lease;
+        this.pollInterval = pollInterval;
+        this.linger = linger;
+        this.retention = retention;
+    }
+
+    /**
+     * Asks the dispatcher to look for due messages now instead of at its next poll.
+     */
+    public void wakeUp() {
+        wakeUps.release();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        dispatcherThread.execute(this::run);
+    }
+
+    @PreDestroy
+    public void stop() {
+        dispatcherThread.shutdownNow();
+    }
+
+    @Scheduled(cron = "0 30 3 * * ?")
+    public void purgeSent() {
+        int deleted = transactionTemplate.execute(status ->
+                outboxEmailRepository.deleteByStatusAndSentAtBefore(EEmailStatus.SENT, ZonedDateTime.now().minus(retention)));
+        if (deleted > 0) {
+            logger.info("Purged {} sent emails from the outbox.", deleted);
+        }
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                if (wakeUps.tryAcquire(pollInterval.toMillis(), TimeUnit.MILLISECONDS)) {
+                    // messages queued together (e.g. by one reminder run) should leave together
+                    Thread.sleep(linger);
+                }
+                wakeUps.drainPermits();
+                while (dispatchBatch() == batchSize) {
+                    // keep going while the outbox has a backlog
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                logger.error("Email outbox dispatch failed: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * @return the number of messages claimed
+     */
+    int dispatchBatch() {
+        List<OutboxEmail> claimed = transactionTemplate.execute(status -> {
+            ZonedDateTime now = ZonedDateTime.now();
+            List<OutboxEmail> due = outboxEmailRepository.findDueForUpdate(EEmailStatus.PENDING, now, Limit.of(batchSize));
+            for (OutboxEmail email : due) {
+                email.setAttempts(email.getAttempts() + 1);
+                email.setNextAttemptAt(now.plus(lease));
+            }
+            return due;
+        });
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+        Map<Long, Outcome> outcomes = new HashMap<>();
+        Map<EEmailTemplate, List<OutboxEmail>> byTemplate = new EnumMap<>(EEmailTemplate.class);
+        claimed.forEach(email -> byTemplate.computeIfAbsent(email.getTemplate(), k -> new ArrayList<>()).add(email));
+        byTemplate.forEach((template, emails) -> send(template, emails, outcomes));
+        transactionTemplate.executeWithoutResult(status -> record(claimed, outcomes));
+        return claimed.size();
+    }
+
+    private void send(EEmailTemplate template, List<OutboxEmail> emails, Map<Long, Outcome> outcomes) {
+        Outcome outcome = post(template, emails);
+        if (!outcome.sent() && !outcome.retry() && emails.size() > 1) {
+            // one bad address makes SendGrid reject the whole request; find it by sending the rest one by one
+            emails.forEach(email -> send(template, List.of(email), outcomes));
+            return;
+        }
+        emails.forEach(email -> outcomes.put(email.getId(), outcome));
+    }
+
+    private Outcome post(EEmailTemplate template, List<OutboxEmail> emails) {
+        Mail mail = new Mail();
+        mail.setFrom(new Email(fromEmail));
+        mail.setSubject(template.getSubject());
+        mail.addContent(new Content("text/plain", template.getBody()));
+        for (OutboxEmail email : emails) {
+            Personalization personalization = new Personalization();
+            personalization.addTo(new Email(email.getRecipient()));
+            email.getSubstitutions().forEach(personalization::addSubstitution);
+            mail.addPersonalization(personalization);
+        }
+        Request request = new Request();
+        request.setMethod(Method.POST);
+        request.setEndpoint("mail/send");
+        try {
+            request.setBody(mail.build());
+            Response response = sendGrid.api(request);
+            int statusCode = response.getStatusCode();
+            if (statusCode >= 200 && statusCode < 300) {
+                logger.info("Sent {} {} emails. Status code: {}", emails.size(), template, statusCode);
+                return new Outcome(true, false, null);
+            }
+            String error = "SendGrid returned " + statusCode + ": " + response.getBody();
+            logger.warn("Sending {} {} emails failed. {}", emails.size(), template, error);
+            return new Outcome(false, statusCode == 429 || statusCode >= 500, error);
+        } catch (IOException ex) {
+            logger.warn("Sending {} {} emails failed: {}", emails.size(), template, ex.getMessage());
+            return new Outcome(false, true, ex.getMessage());
+        }
+    }
+
+    private void record(List<OutboxEmail> claimed, Map<Long, Outcome> outcomes) {
+        ZonedDateTime now = ZonedDateTime.now();
+        Map<Long, OutboxEmail> current = new HashMap<>();
+        outboxEmailRepository.findAllById(outcomes.keySet()).forEach(email -> current.put(email.getId(), email));
+        for (OutboxEmail claimedEmail : claimed) {
+            OutboxEmail email = current.get(claimedEmail.getId());
+            Outcome outcome = outcomes.get(claimedEmail.getId());
+            if (email == null || outcome == null) {
+                continue;
+            }
+            if (outcome.sent()) {
+                email.setStatus(EEmailStatus.SENT);
+                email.setSentAt(now);
+                email.setLastError(null);
+                continue;
+            }
+            email.setLastError(outcome.error() == null ? null : outcome.error().substring(0, Math.min(outcome.error().length(), 1000)));
+            if (!outcome.retry() || email.getAttempts() >= maxAttempts) {
+                email.setStatus(EEmailStatus.FAILED);
+                logger.error("Giving up on email {} to {} after {} attempts.", email.getId(), email.getRecipient(), email.getAttempts());
+            } else {
+                Duration delay = retryDelay.multipliedBy(1L << Math.min(email.getAttempts() - 1, 20));
+                email.setNextAttemptAt(now.plus(delay.compareTo(MAX_RETRY_DELAY) > 0 ? MAX_RETRY_DELAY : delay));
+            }
+        }
+    }
+}
@@ -1,120 +1,91 @@
 package de.saarland.events.service;
 
-import com.sendgrid.Method;
-import com.sendgrid.Request;
-import com.sendgrid.Response;
-import com.sendgrid.SendGrid;
-import com.sendgrid.helpers.mail.Mail;
-import com.sendgrid.helpers.mail.objects.Content;
-import com.sendgrid.helpers.mail.objects.Email;
+import de.saarland.events.model.EEmailTemplate;
 import de.saarland.events.model.Event;
-import de.saarland.events.model.User;
+import de.saarland.events.model.OutboxEmail;
 import de.saarland.events.model.Translation;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import de.saarland.events.model.User;
+import de.saarland.events.repository.OutboxEmailRepository;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.io.IOException;
+import java.time.ZonedDateTime;
+import java.util.Map;
 
+/**
+ * Queues emails in the {@code email_outbox} table as part of the caller's transaction; nothing is sent here. The
+ * {@link EmailOutboxDispatcher} is woken once the transaction commits, so a rolled-back change never sends mail and a
+ * slow SendGrid never holds up the caller.
+ */
 @Service
 public class EmailService {
 
-    private static final Logger logger = LoggerFactory.getLogger(EmailService.class);
-    private final SendGrid sendGrid;
-
-    @Value("${app.email.from}")
-    private String fromEmail;
-
+    private final OutboxEmailRepository outboxEmailRepository;
+    private final EmailOutboxDispatcher emailOutboxDispatcher;
 
     @Value("${app.frontend.url}")
     private String frontendUrl;
 
-    public EmailService(@Value("${SENDGRID_API_KEY}") String sendGridApiKey) {
-        this.sendGrid = new SendGrid(sendGridApiKey);
+    public EmailService(OutboxEmailRepository outboxEmailRepository, EmailOutboxDispatcher emailOutboxDispatcher) {
+        this.outboxEmailRepository = outboxEmailRepository;
+        this.emailOutboxDispatcher = emailOutboxDispatcher;
     }
 
     public void sendReminderEmail(User user, Event event) {
-        String eventName = event.getTranslations().getFirst().getName();
-        String subject = "Event Reminder: " + eventName;
-        String textContent = String.format(
-                "Hello, %s!\n\nWe remind you that the event you saved will start soon: '%s'.\nIt will happen %s.\n\n" +
-                        "Best wishes, the Afisha Saarland team!",
-                user.getUsername(),
-                eventName,
-                event.getEventDate().toString()
-        );
-        sendEmail(user.getEmail(), subject, textContent);
+        queue(EEmailTemplate.EVENT_REMINDER, user.getEmail(), Map.of(
+                "-username-", user.getUsername(),
+                "-eventName-", eventName(event),
+                "-eventDate-", event.getEventDate().toString()));
     }
 
-
-
     public void sendPasswordResetEmail(User user, String resetLink) {
-        String subject = "Password Reset Request";
-        String textContent = String.format(
-                "Hello, %s!\n\nYou requested a password reset. Please click the link below to set a new password:\n%s\n\n" +
-                        "If you did not request this, please ignore this email.\n\n" +
-                        "Best wishes, the Afisha Saarland team!",
-                user.getUsername(),
-                resetLink
-        );
-        sendEmail(user.getEmail(), subject, textContent);
+        queue(EEmailTemplate.PASSWORD_RESET, user.getEmail(), Map.of(
+                "-username-", user.getUsername(),
+                "-resetLink-", resetLink));
     }
 
-
     public void sendPromotionConfirmationEmail(User user, Event event) {
-        String eventName = event.getTranslations().getFirst().getName();
-        String subject = "Your event '" + eventName + "' has been promoted!";
-        String textContent = String.format(
-                "Hello, %s!\n\nThank you for your payment. Your event '%s' will now be featured in the premium block until %s.\n\n" +
-                        "Best wishes, the Afisha Saarland team!",
-                user.getUsername(),
-                eventName,
-                event.getPremiumUntil().toLocalDate().toString()
-        );
-        sendEmail(user.getEmail(), subject, textContent);
+        queue(EEmailTemplate.PROMOTION_CONFIRMATION, user.getEmail(), Map.of(
+                "-username-", user.getUsername(),
+                "-eventName-", eventName(event),
+                "-premiumUntil-", event.getPremiumUntil().toLocalDate().toString()));
     }
 
-
     public void sendEventApprovedEmail(User user, Event event) {
-        String eventName = event.getTranslations().stream()
+        queue(EEmailTemplate.EVENT_APPROVED, user.getEmail(), Map.of(
+                "-username-", user.getUsername(),
+                "-eventName-", eventName(event),
+                "-promotionLink-", frontendUrl + "/promote/" + event.getId()));
+    }
+
+    // The German name, else any name; an event without translations must not stop the mail being queued.
+    private static String eventName(Event event) {
+        return event.getTranslations().stream()
                 .filter(t -> "de".equals(t.getLocale()))
                 .findFirst()
                 .map(Translation::getName)
                 .orElse(event.getTranslations().isEmpty() ? "Ihr Event" : event.getTranslations().get(0).getName());
-
-        String subject = "Ihr Event '" + eventName + "' wurde genehmigt!";
-        String promotionLink = frontendUrl + "/promote/" + event.getId();
-
-        String textContent = String.format(
-                "Hallo, %s!\n\nIhr Event '%s' wurde genehmigt und ist jetzt auf unserer Webseite veröffentlicht.\n\n" +
-                        "Möchten Sie mehr Besucher erreichen? Bewerben Sie Ihr Event hier: %s\n\n" +
-                        "Mit freundlichen Grüßen,\nIhr Team von Afisha Saarland!",
-                user.getUsername(),
-                eventName,
-                promotionLink
-        );
-        sendEmail(user.getEmail(), subject, textContent);
     }
 
-
-    private void sendEmail(String toEmail, String subject, String textContent) {
-        Email from = new Email(fromEmail);
-        Email to = new Email(toEmail);
-        Content content = new Content("text/plain", textContent);
-        Mail mail = new Mail(from, subject, to, content);
-        Request request = new Request();
-        try {
-            request.setMethod(Method.POST);
-            request.setEndpoint("mail/send");
-            request.setBody(mail.build());
-
-            Response response = sendGrid.api(request);
-            logger.info("Email sent to {}. Subject: '{}'. Status code: {}", toEmail, subject, response.getStatusCode());
-        } catch (IOException ex) {
-            logger.error("Error sending email to {}: {}", toEmail, ex.getMessage());
-            throw new RuntimeException("Failed to send email", ex);
+    private void queue(EEmailTemplate template, String recipient, Map<String, String> substitutions) {
+        OutboxEmail email = new OutboxEmail();
+        email.setTemplate(template);
+        email.setRecipient(recipient);
+        email.getSubstitutions().putAll(substitutions);
+        email.setCreatedAt(ZonedDateTime.now());
+        email.setNextAttemptAt(email.getCreatedAt());
+        outboxEmailRepository.save(email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    emailOutboxDispatcher.wakeUp();
+                }
+            });
+        } else {
+            emailOutboxDispatcher.wakeUp();
         }
     }
 }
-
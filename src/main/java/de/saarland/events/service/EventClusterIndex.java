@@ -0,0 +1,156 @@
+package de.saarland.events.service;
+
+import de.saarland.events.dto.BoundingBox;
+import de.saarland.events.dto.CityDto;
+import de.saarland.events.dto.EventClusterDto;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * Per-zoom aggregates of the listed events over Web Mercator tiles (the slippy map scheme, 2^zoom tiles per axis).
+ * Events are placed at their city's coordinates. {@link EventReadModel} reports the per-city event counts after every
+ * change; only the tiles of cities whose count changed are updated, on copies of the levels that replace them all at
+ * once, so a map request is a scan over the non-empty tiles of one consistent zoom level. A change to the city
+ * coordinates rebuilds all levels.
+ */
+@Component
+public class EventClusterIndex {
+
+    public static final int MAX_ZOOM = 18;
+
+    private static final double MAX_LATITUDE = 85.05112878;
+
+    private record Tile(long count, double latitudeSum, double longitudeSum, int cities) {
+
+        Tile plus(long events, int cityDelta, CityDto city) {
+            return new Tile(count + events, latitudeSum + events * city.getLatitude(), longitudeSum + events * city.getLongitude(),
+                    cities + cityDelta);
+        }
+    }
+
+    private final ReferenceDataRegistry referenceDataRegistry;
+    private volatile List<Map<Long, Tile>> levels = emptyLevels();
+
+    private Map<Long, Integer> cityCounts = Map.of();
+    private List<CityDto> builtFor;
+
+    public EventClusterIndex(ReferenceDataRegistry referenceDataRegistry) {
+        this.referenceDataRegistry = referenceDataRegistry;
+    }
+
+    public List<EventClusterDto> clusters(BoundingBox box, int zoom) {
+        if (zoom < 0 || zoom > MAX_ZOOM) {
+            throw new IllegalArgumentException("zoom must be between 0 and " + MAX_ZOOM + ".");
+        }
+        refreshCities();
+        int westX = tileX(box.west(), zoom);
+        int eastX = tileX(box.east(), zoom);
+        int northY = tileY(box.north(), zoom);
+        int southY = tileY(box.south(), zoom);
+        boolean wraps = box.west() > box.east();
+
+        List<EventClusterDto> clusters = new ArrayList<>();
+        levels.get(zoom).forEach((key, tile) -> {
+            int x = (int) (key >>> 32);
+            int y = (int) (long) key;
+            boolean inX = wraps ? x >= westX || x <= eastX : x >= westX && x <= eastX;
+            if (inX && y >= northY && y <= southY) {
+                clusters.add(new EventClusterDto(x, y, tile.latitudeSum() / tile.count(), tile.longitudeSum() / tile.count(),
+                        tile.count(), tile.cities()));
+            }
+        });
+        clusters.sort(Comparator.comparingInt(EventClusterDto::getY).thenComparingInt(EventClusterDto::getX));
+        return clusters;
+    }
+
+    /**
+     * Applies the listed-event count per city ID; cities missing from the map have no listed events.
+     */
+    synchronized void update(Map<Long, Integer> counts) {
+        if (builtFor == null || builtFor != referenceDataRegistry.cities()) {
+            cityCounts = counts;
+            rebuild();
+            return;
+        }
+        Set<Long> cityIds = new HashSet<>(counts.keySet());
+        cityIds.addAll(cityCounts.keySet());
+        List<Map<Long, Tile>> next = null;
+        for (Long cityId : cityIds) {
+            int before = cityCounts.getOrDefault(cityId, 0);
+            int after = counts.getOrDefault(cityId, 0);
+            Optional<CityDto> city = referenceDataRegistry.city(cityId);
+            if (before != after && city.isPresent()) {
+                if (next == null) {
+                    next = copyOf(levels);
+                }
+                apply(next, city.get(), before, after);
+            }
+        }
+        cityCounts = counts;
+        if (next != null) {
+            levels = freeze(next);
+        }
+    }
+
+    private synchronized void refreshCities() {
+        if (builtFor != referenceDataRegistry.cities()) {
+            rebuild();
+        }
+    }
+
+    private void rebuild() {
+        builtFor = referenceDataRegistry.cities();
+        List<Map<Long, Tile>> fresh = copyOf(emptyLevels());
+        cityCounts.forEach((cityId, count) -> referenceDataRegistry.city(cityId).ifPresent(city -> apply(fresh, city, 0, count)));
+        levels = freeze(fresh);
+    }
+
+    private static List<Map<Long, Tile>> emptyLevels() {
+        List<Map<Long, Tile>> empty = new ArrayList<>();
+        for (int zoom = 0; zoom <= MAX_ZOOM; zoom++) {
+            empty.add(Map.of());
+        }
+        return List.copyOf(empty);
+    }
+
+    // Levels are never changed once published: changes are made to copies that are swapped in together, so a
+    // request sees every zoom level in the same state.
+    private static List<Map<Long, Tile>> copyOf(List<Map<Long, Tile>> levels) {
+        List<Map<Long, Tile>> copy = new ArrayList<>(levels.size());
+        levels.forEach(level -> copy.add(new HashMap<>(level)));
+        return copy;
+    }
+
+    private static List<Map<Long, Tile>> freeze(List<Map<Long, Tile>> levels) {
+        List<Map<Long, Tile>> frozen = new ArrayList<>(levels.size());
+        levels.forEach(level -> frozen.add(Collections.unmodifiableMap(level)));
+        return List.copyOf(frozen);
+    }
+
+    private static void apply(List<Map<Long, Tile>> levels, CityDto city, int before, int after) {
+        if (city.getLatitude() == null || city.getLongitude() == null) {
+            return;
+        }
+        int cityDelta = before == 0 ? 1 : after == 0 ? -1 : 0;
+        for (int zoom = 0; zoom <= MAX_ZOOM; zoom++) {
+            long key = ((long) tileX(city.getLongitude(), zoom) << 32) | tileY(city.getLatitude(), zoom);
+            levels.get(zoom).compute(key, (k, tile) -> {
+                Tile updated = (tile == null ? new Tile(0, 0, 0, 0) : tile).plus(after - before, cityDelta, city);
+                return updated.count() <= 0 ? null : updated;
+            });
+        }
+    }
+
+    static int tileX(double longitude, int zoom) {
+        int tiles = 1 << zoom;
+        return Math.min(tiles - 1, (int) Math.floor((longitude + 180) / 360 * tiles));
+    }
+
+    static int tileY(double latitude, int zoom) {
+        int tiles = 1 << zoom;
+        double radians = Math.toRadians(Math.max(-MAX_LATITUDE, Math.min(MAX_LATITUDE, latitude)));
+        double y = (1 - Math.log(Math.tan(radians) + 1 / Math.cos(radians)) / Math.PI) / 2;
+        return Math.min(tiles - 1, Math.max(0, (int) Math.floor(y * tiles)));
+    }
+}
@@ -0,0 +1,239 @@
+package de.saarland.events.service;
+
+import de.saarland.events.model.Event;
+import de.saarland.events.model.Translation;
+import de.saarland.events.repository.EventRepository;
+import de.saarland.events.search.BloomFilter;
+import org.hibernate.exception.ConstraintViolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.text.Normalizer;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Rejects events that repeat the German name of an existing event in the same city on the same day. Each event stores
+ * that combination as {@link Event#getDuplicateKey()} under a unique index, so the check is an index lookup and two
+ * concurrent submissions cannot both get in. A Bloom filter of all stored keys answers the usual "no duplicate" case
+ * without a query; it is loaded at startup, after keys for events written before the column existed are backfilled.
+ */
+@Component
+public class EventDuplicateGuard {
+
+    public static final String DUPLICATE_MESSAGE =
+            "Ein Ereignis mit demselben Namen, in derselben Stadt und am selben Datum ist bereits vorhanden.";
+
+    private static final Logger log = LoggerFactory.getLogger(EventDuplicateGuard.class);
+
+    // Events are in Saarland; the calendar date is taken there, whatever offset the client sent.
+    static final ZoneId EVENT_ZONE = ZoneId.of("Europe/Berlin");
+    private static final String KEY_INDEX = "uk_events_duplicate_key";
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int BACKFILL_CHUNK_SIZE = 500;
+
+    private record BackfillChunk(Long lastId, int keyed, int conflicts) {
+    }
+
+    private final EventRepository eventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long expectedKeys;
+    private final double falsePositiveRate;
+    private final AtomicBoolean reloading = new AtomicBoolean();
+
+    // Null until loaded; every check then goes to the database.
+    private volatile BloomFilter filter;
+    // Filter being loaded; keys registered meanwhile go into both.
+    private volatile BloomFilter nextFilter;
+
+    public EventDuplicateGuard(EventRepository eventRepository, PlatformTransactionManager transactionManager,
+                               @Value("${app.events.duplicate-filter.expected-keys:100000}") long expectedKeys,
+                               @Value("${app.events.duplicate-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.eventRepository = eventRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.expectedKeys = expectedKeys;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    public static String keyOf(List<Translation> translations, Long cityId, ZonedDateTime eventDate) {
+        String germanName = translations.stream()
+                .filter(t -> "de".equals(t.getLocale()))
+                .findFirst()
+                .map(Translation::getName)
+                .orElse(null);
+        return keyOf(germanName, cityId, eventDate);
+    }
+
+    /**
+     * City, date in Saarland and German name folded to lower case with whitespace collapsed, or {@code null} if the
+     * event has no German name.
+     */
+    public static String keyOf(String germanName, Long cityId, ZonedDateTime eventDate) {
+        if (germanName == null) {
+            return null;
+        }
+        String name = WHITESPACE.matcher(Normalizer.normalize(germanName, Normalizer.Form.NFKC)).replaceAll(" ").trim();
+        if (name.isEmpty()) {
+            return null;
+        }
+        return cityId + "|" + eventDate.withZoneSameInstant(EVENT_ZONE).toLocalDate() + "|" + name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @param eventId the event being updated, which may keep its own key; {@code null} for a new event
+     * @throws IllegalArgumentException if another event has the key
+     */
+    public void checkUnique(String key, Long eventId) {
+        if (key == null || !mightExist(key)) {
+            return;
+        }
+        boolean exists = eventId == null
+                ? eventRepository.existsByDuplicateKey(key)
+                : eventRepository.existsByDuplicateKeyAndIdNot(key, eventId);
+        if (exists) {
+            throw new IllegalArgumentException(DUPLICATE_MESSAGE);
+        }
+    }
+
+    /**
+     * The given keys that are already stored, with one query for those the filter cannot rule out.
+     */
+    public Set<String> findExisting(Collection<String> keys) {
+        List<String> candidates = keys.stream().filter(this::mightExist).toList();
+        return candidates.isEmpty() ? Set.of() : new HashSet<>(eventRepository.findExistingDuplicateKeys(candidates));
+    }
+
+    /**
+     * Runs a write that flushes an event, reporting a duplicate that slipped past {@link #checkUnique} because of a
+     * concurrent insert the same way as the check does.
+     */
+    public <T> T flushUnique(Supplier<T> write) {
+        try {
+            return write.get();
+        } catch (DataIntegrityViolationException ex) {
+            if (isKeyViolation(ex)) {
+                throw new IllegalArgumentException(DUPLICATE_MESSAGE, ex);
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Adds a stored key to the filter. Called right after the insert is flushed; a key whose transaction later rolls
+     * back only costs a needless query.
+     */
+    public void register(String key) {
+        if (key == null) {
+            return;
+        }
+        BloomFilter current = filter;
+        BloomFilter next = nextFilter;
+        if (current != null) {
+            current.put(key);
+        }
+        if (next != null) {
+            next.put(key);
+        }
+        if (current != null && current.isSaturated() && !reloading.get()) {
+            Thread.ofVirtual().name("duplicate-filter-reload").start(this::reload);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        backfill();
+        reload();
+    }
+
+    private boolean mightExist(String key) {
+        BloomFilter current = filter;
+        return current == null || current.mightContain(key);
+    }
+
+    private void reload() {
+        if (!reloading.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            BloomFilter loading = new BloomFilter(Math.max(expectedKeys, 2 * eventRepository.count()), falsePositiveRate);
+            nextFilter = loading;
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<String> keys = eventRepository.streamDuplicateKeys()) {
+                    keys.forEach(loading::put);
+                }
+            });
+            filter = loading;
+        } finally {
+            nextFilter = null;
+            reloading.set(false);
+        }
+    }
+
+    private void backfill() {
+        long afterId = 0;
+        int keyed = 0;
+        int conflicts = 0;
+        while (true) {
+            long from = afterId;
+            BackfillChunk chunk = transactionTemplate.execute(status -> backfillChunk(from));
+            if (chunk == null || chunk.lastId() == null) {
+                break;
+            }
+            afterId = chunk.lastId();
+            keyed += chunk.keyed();
+            conflicts += chunk.conflicts();
+        }
+        if (keyed > 0 || conflicts > 0) {
+            log.info("Backfilled duplicate keys for {} events; {} existing duplicates were left without a key.", keyed, conflicts);
+        }
+    }
+
+    private BackfillChunk backfillChunk(long afterId) {
+        List<Event> events = eventRepository.findWithoutDuplicateKey(afterId, PageRequest.of(0, BACKFILL_CHUNK_SIZE));
+        if (events.isEmpty()) {
+            return new BackfillChunk(null, 0, 0);
+        }
+        Map<String, Event> byKey = new LinkedHashMap<>();
+        int conflicts = 0;
+        for (Event event : events) {
+            String key = keyOf(event.getTranslations(), event.getCity().getId(), event.getEventDate());
+            if (key != null && byKey.putIfAbsent(key, event) != null) {
+                conflicts++;
+            }
+        }
+        Set<String> taken = byKey.isEmpty() ? Set.of() : new HashSet<>(eventRepository.findExistingDuplicateKeys(byKey.keySet()));
+        int keyed = 0;
+        for (Map.Entry<String, Event> entry : byKey.entrySet()) {
+            if (taken.contains(entry.getKey())) {
+                conflicts++;
+            } else {
+                entry.getValue().setDuplicateKey(entry.getKey());
+                keyed++;
+            }
+        }
+        return new BackfillChunk(events.get(events.size() - 1).getId(), keyed, conflicts);
+    }
+
+    private static boolean isKeyViolation(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null
+                    && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(KEY_INDEX)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,145 @@
+package de.saarland.events.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import de.saarland.events.dto.EventResponseDto;
+import de.saarland.events.dto.ExportFormat;
+import de.saarland.events.mapper.EventMapper;
+import de.saarland.events.model.Event;
+import de.saarland.events.model.Translation;
+import de.saarland.events.repository.EventRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Full event dump for admins, streamed row by row from a database cursor straight into the response. Each event is
+ * detached from the persistence context once written, so memory use does not grow with the table size.
+ */
+@Service
+public class EventExportService {
+
+    private static final String[] CSV_HEADER = {
+            "id", "status", "eventDate", "endDate", "premium", "premiumUntil", "cityId", "city", "categoryId", "category",
+            "imageUrl", "createdByUserId", "locale", "name", "description"
+    };
+
+    private final EventRepository eventRepository;
+    private final EventMapper eventMapper;
+    private final EntityManager entityManager;
+    private final ObjectWriter jsonWriter;
+
+    public EventExportService(EventRepository eventRepository, EventMapper eventMapper, EntityManager entityManager, ObjectMapper objectMapper) {
+        this.eventRepository = eventRepository;
+        this.eventMapper = eventMapper;
+        this.entityManager = entityManager;
+        this.jsonWriter = objectMapper.writerFor(EventResponseDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Transactional(readOnly = true)
+    public void export(ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<Event> events = eventRepository.streamAllForExport()) {
+            switch (format) {
+                case NDJSON -> writeNdjson(events, out);
+                case CSV -> writeCsv(events, out);
+            }
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private void writeNdjson(Stream<Event> events, OutputStream out) throws IOException {
+        JsonGenerator generator = jsonWriter.getFactory().createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        events.forEach(event -> {
+            try {
+                jsonWriter.writeValue(generator, eventMapper.toResponseDto(event));
+                generator.writeRaw('\n');
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            entityManager.detach(event);
+        });
+        generator.close();
+    }
+
+    /**
+     * One row per translation, with the event columns repeated; events without translations get a single row.
+     */
+    private void writeCsv(Stream<Event> events, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writeCsvRow(writer, CSV_HEADER);
+        events.forEach(event -> {
+            try {
+                List<Translation> translations = event.getTranslations();
+                if (translations.isEmpty()) {
+                    writeCsvRow(writer, csvRow(event, null));
+                }
+                for (Translation translation : translations) {
+                    writeCsvRow(writer, csvRow(event, translation));
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            entityManager.detach(event);
+        });
+        writer.flush();
+    }
+
+    private static String[] csvRow(Event event, Translation translation) {
+        return new String[]{
+                String.valueOf(event.getId()),
+                event.getStatus() != null ? event.getStatus().name() : null,
+                format(event.getEventDate()),
+                format(event.getEndDate()),
+                String.valueOf(event.isPremium()),
+                format(event.getPremiumUntil()),
+                String.valueOf(event.getCity().getId()),
+                event.getCity().getName(),
+                event.getCategory() != null ? String.valueOf(event.getCategory().getId()) : null,
+                event.getCategory() != null ? event.getCategory().getName() : null,
+                event.getImageUrl(),
+                event.getCreatedBy() != null ? String.valueOf(event.getCreatedBy().getId()) : null,
+                translation != null ? translation.getLocale() : null,
+                translation != null ? translation.getName() : null,
+                translation != null ? translation.getDescription() : null
+        };
+    }
+
+    private static String format(ZonedDateTime dateTime) {
+        return dateTime != null ? dateTime.toOffsetDateTime().toString() : null;
+    }
+
+    // RFC 4180: quote fields containing separators, quotes or line breaks and double embedded quotes.
+    private static void writeCsvRow(Writer writer, String[] fields) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            String field = Objects.toString(fields[i], "");
+            if (field.indexOf(',') >= 0 || field.indexOf('"') >= 0 || field.indexOf('\n') >= 0 || field.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(field.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(field);
+            }
+        }
+        writer.write("\r\n");
+    }
+}
@@ -0,0 +1,121 @@
+package de.saarland.events.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import de.saarland.events.dto.EventFacetsDto;
+import de.saarland.events.dto.FacetCountDto;
+import de.saarland.events.model.Event;
+import de.saarland.events.repository.EventRepository;
+import de.saarland.events.specification.EventSpecification;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.*;
+
+/**
+ * City, category, month and day-of-month counts for the public listing filters, computed in one pass over the
+ * matching events. Results are cached per filter combination together with the events data version
+ * ({@link DataVersionRegistry#events}), so any event, city or category write makes them stale.
+ */
+@Service
+public class EventFacetService {
+
+    private record Key(String city, Long categoryId, Integer year, Integer month, String categoryName, String keyword) {
+    }
+
+    private record Entry(String version, EventFacetsDto facets) {
+    }
+
+    private static final class Counter {
+        private final Long id;
+        private final String name;
+        private long count;
+
+        private Counter(Long id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    private static final Comparator<FacetCountDto> BY_COUNT = Comparator.comparingLong(FacetCountDto::getCount).reversed()
+            .thenComparing(FacetCountDto::getName);
+
+    private final EventReadModel eventReadModel;
+    private final EventRepository eventRepository;
+    private final EventSpecification eventSpecification;
+    private final DataVersionRegistry dataVersionRegistry;
+    private final Cache<Key, Entry> cache;
+
+    public EventFacetService(EventReadModel eventReadModel, EventRepository eventRepository, EventSpecification eventSpecification,
+                             DataVersionRegistry dataVersionRegistry, MeterRegistry meterRegistry,
+                             @Value("${app.events.facet-cache.max-entries:1000}") long maxEntries) {
+        this.eventReadModel = eventReadModel;
+        this.eventRepository = eventRepository;
+        this.eventSpecification = eventSpecification;
+        this.dataVersionRegistry = dataVersionRegistry;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "eventFacets");
+    }
+
+    @Transactional(readOnly = true)
+    public EventFacetsDto getFacets(Optional<String> city, Optional<Long> categoryId, Optional<Integer> year, Optional<Integer> month, Optional<String> categoryName, Optional<String> keyword) {
+        Key key = new Key(city.orElse(null), categoryId.orElse(null), year.orElse(null), month.orElse(null),
+                categoryName.orElse(null), keyword.orElse(null));
+        // Read before counting: a concurrent write can only leave an entry that is already stale.
+        String version = dataVersionRegistry.events().etag();
+        Entry entry = cache.getIfPresent(key);
+        if (entry != null && entry.version().equals(version)) {
+            return entry.facets();
+        }
+        List<Event> events = eventReadModel.isLoaded()
+                ? eventReadModel.findAll(city, categoryId, year, month, categoryName, keyword, Optional.empty())
+                : eventRepository.findAllWithAssociations(eventSpecification.findByCriteria(city, categoryId, year, month, categoryName, keyword));
+        EventFacetsDto facets = count(events);
+        cache.put(key, new Entry(version, facets));
+        return facets;
+    }
+
+    private static EventFacetsDto count(List<Event> events) {
+        Map<Long, Counter> cities = new HashMap<>();
+        Map<Long, Counter> categories = new HashMap<>();
+        Map<YearMonth, Long> months = new TreeMap<>();
+        long[] days = new long[32];
+
+        for (Event event : events) {
+            cities.computeIfAbsent(event.getCity().getId(), id -> new Counter(id, event.getCity().getName())).count++;
+            if (event.getCategory() != null) {
+                categories.computeIfAbsent(event.getCategory().getId(), id -> new Counter(id, event.getCategory().getName())).count++;
+            }
+            // Same zone as the year/month filters.
+            ZonedDateTime start = event.getEventDate().withZoneSameInstant(ZoneId.systemDefault());
+            months.merge(YearMonth.from(start), 1L, Long::sum);
+            days[start.getDayOfMonth()]++;
+        }
+
+        Map<String, Long> monthCounts = new LinkedHashMap<>();
+        months.forEach((month, count) -> monthCounts.put(month.toString(), count));
+        Map<Integer, Long> dayCounts = new LinkedHashMap<>();
+        for (int day = 1; day < days.length; day++) {
+            if (days[day] > 0) {
+                dayCounts.put(day, days[day]);
+            }
+        }
+        return new EventFacetsDto(events.size(), sorted(cities.values()), sorted(categories.values()), monthCounts, dayCounts);
+    }
+
+    private static List<FacetCountDto> sorted(Collection<Counter> counters) {
+        return counters.stream()
+                .map(c -> new FacetCountDto(c.id, c.name, c.count))
+                .sorted(BY_COUNT)
+                .toList();
+    }
+}
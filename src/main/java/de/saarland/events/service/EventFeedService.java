@@ -0,0 +1,101 @@
+package de.saarland.events.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import de.saarland.events.dto.CategoryDto;
+import de.saarland.events.mapper.IcsCalendarWriter;
+import de.saarland.events.mapper.TranslationFallback;
+import de.saarland.events.model.Event;
+import de.saarland.events.repository.EventRepository;
+import de.saarland.events.specification.EventSpecification;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * iCalendar feeds of the listed events for calendar subscriptions. Calendar clients poll every few minutes, so each
+ * rendered feed is cached per city, category and language together with the events data version
+ * ({@link DataVersionRegistry#events}); polls between two writes are answered from memory.
+ */
+@Service
+public class EventFeedService {
+
+    private record Key(String city, Long categoryId, String lang) {
+    }
+
+    private record Entry(String version, byte[] ics) {
+    }
+
+    private final EventReadModel eventReadModel;
+    private final EventRepository eventRepository;
+    private final EventSpecification eventSpecification;
+    private final ReferenceDataRegistry referenceDataRegistry;
+    private final DataVersionRegistry dataVersionRegistry;
+    private final Cache<Key, Entry> cache;
+
+    public EventFeedService(EventReadModel eventReadModel, EventRepository eventRepository, EventSpecification eventSpecification,
+                            ReferenceDataRegistry referenceDataRegistry, DataVersionRegistry dataVersionRegistry, MeterRegistry meterRegistry,
+                            @Value("${app.events.feed-cache.max-entries:500}") long maxEntries) {
+        this.eventReadModel = eventReadModel;
+        this.eventRepository = eventRepository;
+        this.eventSpecification = eventSpecification;
+        this.referenceDataRegistry = referenceDataRegistry;
+        this.dataVersionRegistry = dataVersionRegistry;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "eventFeeds");
+    }
+
+    @Transactional(readOnly = true)
+    public byte[] getFeed(Optional<String> city, Optional<Long> categoryId, Optional<String> lang) {
+        String locale = lang.orElse(TranslationFallback.DEFAULT_LOCALE);
+        Key key = new Key(city.orElse(null), categoryId.orElse(null), locale);
+        // Read before rendering: a concurrent write can only leave an entry that is already stale.
+        DataVersionRegistry.Validator validator = dataVersionRegistry.events();
+        Entry entry = cache.getIfPresent(key);
+        if (entry != null && entry.version().equals(validator.etag())) {
+            return entry.ics();
+        }
+        List<Event> events = eventReadModel.isLoaded()
+                ? eventReadModel.findAll(city, categoryId, Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty())
+                : eventRepository.findAllWithAssociations(eventSpecification.findByCriteria(city, categoryId, Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty()));
+        byte[] ics = render(events, calendarName(city, categoryId), locale, Instant.ofEpochMilli(validator.lastModified()));
+        cache.put(key, new Entry(validator.etag(), ics));
+        return ics;
+    }
+
+    private static byte[] render(List<Event> events, String calendarName, String lang, Instant stamp) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(1024 + events.size() * 512);
+        try {
+            IcsCalendarWriter writer = new IcsCalendarWriter(out, lang, stamp);
+            writer.begin(calendarName);
+            for (Event event : events) {
+                writer.event(event);
+            }
+            writer.end();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return out.toByteArray();
+    }
+
+    private String calendarName(Optional<String> city, Optional<Long> categoryId) {
+        StringBuilder name = new StringBuilder("Saarland Events");
+        city.ifPresent(c -> name.append(" – ").append(c));
+        categoryId.flatMap(referenceDataRegistry::category)
+                .map(CategoryDto::getName)
+                .ifPresent(c -> name.append(" – ").append(c));
+        return name.toString();
+    }
+}
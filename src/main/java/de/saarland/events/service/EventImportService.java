@@ -0,0 +1,419 @@
+package de.saarland.events.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.saarland.events.dto.EventImportReportDto;
+import de.saarland.events.dto.EventImportRowDto;
+import de.saarland.events.dto.EventImportRowDto.Outcome;
+import de.saarland.events.dto.EventRequestDto;
+import de.saarland.events.dto.ImportFormat;
+import de.saarland.events.dto.TranslationDto;
+import de.saarland.events.mapper.CsvReader;
+import de.saarland.events.mapper.EventMapper;
+import de.saarland.events.model.EStatus;
+import de.saarland.events.model.Event;
+import de.saarland.events.model.User;
+import de.saarland.events.repository.EventRepository;
+import de.saarland.events.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk import of events from a JSON or CSV upload. The input is read as a stream and handled in chunks: each chunk is
+ * validated against the in-memory cities and categories, checked against the stored duplicate keys
+ * ({@link EventDuplicateGuard}), and inserted in its own transaction, where the pooled sequence IDs let Hibernate send
+ * the inserts as JDBC batches. Every event gets an entry in the returned report; a failing chunk does not undo the
+ * chunks before it and is retried row by row, so only the rows that really fail are reported as failed.
+ */
+@Service
+public class EventImportService {
+
+    private static final List<String> CSV_REQUIRED_COLUMNS = List.of("eventDate", "cityId", "categoryId", "locale", "name");
+
+    private record ImportRow(long row, EventRequestDto event, String error) {
+    }
+
+    private interface RowSource extends Closeable {
+
+        /**
+         * @return the next event, or {@code null} at the end of the input
+         */
+        ImportRow next() throws IOException;
+
+        /**
+         * Row to report when the input cannot be read any further.
+         */
+        long position();
+    }
+
+    private final EventRepository eventRepository;
+    private final UserRepository userRepository;
+    private final EventMapper eventMapper;
+    private final ReferenceDataRegistry referenceDataRegistry;
+    private final DataVersionRegistry dataVersionRegistry;
+    private final EventDuplicateGuard eventDuplicateGuard;
+    private final NearDuplicateDetector nearDuplicateDetector;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final TransactionTemplate chunkTransaction;
+    private final int chunkSize;
+
+    public EventImportService(EventRepository eventRepository, UserRepository userRepository, EventMapper eventMapper,
+                              ReferenceDataRegistry referenceDataRegistry, DataVersionRegistry dataVersionRegistry,
+                              EventDuplicateGuard eventDuplicateGuard, NearDuplicateDetector nearDuplicateDetector, ObjectMapper objectMapper,
+                              Validator validator, EntityManager entityManager,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${app.events.import.chunk-size:500}") int chunkSize) {
+        this.eventRepository = eventRepository;
+        this.userRepository = userRepository;
+        this.eventMapper = eventMapper;
+        this.referenceDataRegistry = referenceDataRegistry;
+        this.dataVersionRegistry = dataVersionRegistry;
+        this.eventDuplicateGuard = eventDuplicateGuard;
+        this.nearDuplicateDetector = nearDuplicateDetector;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.entityManager = entityManager;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    public EventImportReportDto importEvents(ImportFormat format, InputStream input, Long userId) throws IOException {
+        List<EventImportRowDto> results = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+        try (RowSource source = format == ImportFormat.CSV ? csvRows(input) : jsonRows(input)) {
+            try {
+                for (ImportRow row = source.next(); row != null; row = source.next()) {
+                    chunk.add(row);
+                    if (chunk.size() == chunkSize) {
+                        importChunk(chunk, userId, seen, results);
+                        chunk.clear();
+                    }
+                }
+            } catch (IOException ex) {
+                // The rest of the input cannot be located reliably; keep what was read so far.
+                importChunk(chunk, userId, seen, results);
+                chunk.clear();
+                results.add(new EventImportRowDto(source.position(), Outcome.INVALID, null, "Malformed input: " + ex.getMessage()));
+            }
+            importChunk(chunk, userId, seen, results);
+        }
+        return report(results);
+    }
+
+    private void importChunk(List<ImportRow> rows, Long userId, Set<String> seen, List<EventImportRowDto> results) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        EventImportRowDto[] outcomes = new EventImportRowDto[rows.size()];
+        String[] keys = new String[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            ImportRow row = rows.get(i);
+            String error = row.error() != null ? row.error() : validate(row.event());
+            if (error != null) {
+                outcomes[i] = new EventImportRowDto(row.row(), Outcome.INVALID, null, error);
+            } else {
+                keys[i] = EventDuplicateGuard.keyOf(germanName(row.event()), row.event().getCityId(), row.event().getEventDate());
+            }
+        }
+
+        Set<String> existing = eventDuplicateGuard.findExisting(Arrays.stream(keys).filter(Objects::nonNull).toList());
+        List<Integer> toInsert = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            if (outcomes[i] != null) {
+                continue;
+            }
+            String key = keys[i];
+            if (key != null && (existing.contains(key) || !seen.add(key))) {
+                outcomes[i] = new EventImportRowDto(rows.get(i).row(), Outcome.DUPLICATE, null, EventDuplicateGuard.DUPLICATE_MESSAGE);
+            } else {
+                toInsert.add(i);
+            }
+        }
+
+        if (!toInsert.isEmpty()) {
+            insertRows(toInsert, rows, keys, userId, seen, outcomes);
+        }
+        results.addAll(Arrays.asList(outcomes));
+    }
+
+    private void insertRows(List<Integer> indices, List<ImportRow> rows, String[] keys, Long userId, Set<String> seen, EventImportRowDto[] outcomes) {
+        try {
+            List<Event> created = chunkTransaction.execute(status -> insert(indices.stream().map(i -> rows.get(i).event()).toList(), userId));
+            created.forEach(event -> eventDuplicateGuard.register(event.getDuplicateKey()));
+            for (int j = 0; j < indices.size(); j++) {
+                int i = indices.get(j);
+                outcomes[i] = new EventImportRowDto(rows.get(i).row(), Outcome.CREATED, created.get(j).getId(), null);
+            }
+        } catch (RuntimeException ex) {
+            if (indices.size() > 1) {
+                // One bad row rolls back the whole chunk; find it by inserting the rows one by one.
+                indices.forEach(i -> insertRows(List.of(i), rows, keys, userId, seen, outcomes));
+                return;
+            }
+            int i = indices.getFirst();
+            if (keys[i] != null) {
+                seen.remove(keys[i]);
+            }
+            outcomes[i] = new EventImportRowDto(rows.get(i).row(), Outcome.FAILED, null, NestedExceptionUtils.getMostSpecificCause(ex).getMessage());
+        }
+    }
+
+    private List<Event> insert(List<EventRequestDto> requests, Long userId) {
+        Session session = entityManager.unwrap(Session.class);
+        CacheMode cacheMode = session.getCacheMode();
+        // Bulk inserts would otherwise push the hot entries out of the second-level cache.
+        session.setCacheMode(CacheMode.GET);
+        try {
+            User user = userRepository.getReferenceById(userId);
+            List<Event> created = new ArrayList<>(requests.size());
+            for (EventRequestDto request : requests) {
+                Event event = eventMapper.toEntity(request);
+                if (event.getEndDate() == null) {
+                    event.setEndDate(event.getEventDate());
+                }
+                event.setCreatedBy(user);
+                event.setCategory(referenceDataRegistry.categoryReference(request.getCategoryId()));
+                event.setCity(referenceDataRegistry.cityReference(request.getCityId()));
+                event.getTranslations().forEach(translation -> translation.setEvent(event));
+                event.setStatus(EStatus.PENDING);
+                event.setDuplicateKey(EventDuplicateGuard.keyOf(event.getTranslations(), request.getCityId(), event.getEventDate()));
+                entityManager.persist(event);
+                created.add(event);
+            }
+            // A failing row surfaces here, before any of the chunk is announced.
+            entityManager.flush();
+            for (Event event : created) {
+                nearDuplicateDetector.upsert(event);
+                // Imported events are pending, so the public read model is not affected until they are approved.
+                dataVersionRegistry.eventChanged(event.getId());
+            }
+            return created;
+        } finally {
+            // With open-in-view every chunk runs in the request's persistence context; keep it from filling up with
+            // the whole upload, or with a failed chunk's entities before its retry.
+            entityManager.clear();
+            session.setCacheMode(cacheMode);
+        }
+    }
+
+    private String validate(EventRequestDto request) {
+        Set<ConstraintViolation<EventRequestDto>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream().map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining("; "));
+        }
+        for (TranslationDto translation : request.getTranslations()) {
+            if (translation == null || translation.getLocale() == null || !translation.getLocale().matches("[a-z]{2}")) {
+                return "Every translation needs a two-letter lower-case locale";
+            }
+            if (translation.getName() == null || translation.getName().isBlank()) {
+                return "Every translation needs a name";
+            }
+        }
+        if (referenceDataRegistry.city(request.getCityId()).isEmpty()) {
+            return "City with ID " + request.getCityId() + " not found";
+        }
+        if (referenceDataRegistry.category(request.getCategoryId()).isEmpty()) {
+            return "Category with ID " + request.getCategoryId() + " not found";
+        }
+        return null;
+    }
+
+    private static String germanName(EventRequestDto request) {
+        return request.getTranslations().stream()
+                .filter(t -> "de".equals(t.getLocale()))
+                .findFirst()
+                .map(TranslationDto::getName)
+                .orElse(null);
+    }
+
+    private static EventImportReportDto report(List<EventImportRowDto> results) {
+        Map<Outcome, Integer> counts = new EnumMap<>(Outcome.class);
+        results.forEach(r -> counts.merge(r.getOutcome(), 1, Integer::sum));
+        return new EventImportReportDto(results.size(),
+                counts.getOrDefault(Outcome.CREATED, 0),
+                counts.getOrDefault(Outcome.DUPLICATE, 0),
+                counts.getOrDefault(Outcome.INVALID, 0),
+                counts.getOrDefault(Outcome.FAILED, 0),
+                results);
+    }
+
+    /**
+     * A JSON array of events, or events as consecutive top-level objects (NDJSON), each shaped like the body of
+     * {@code POST /api/admin/events}.
+     */
+    private RowSource jsonRows(InputStream input) throws IOException {
+        MappingIterator<JsonNode> nodes = objectMapper.readerFor(JsonNode.class).readValues(input);
+        return new RowSource() {
+            private long row;
+
+            @Override
+            public ImportRow next() throws IOException {
+                if (!nodes.hasNextValue()) {
+                    return null;
+                }
+                JsonNode node = nodes.nextValue();
+                row++;
+                try {
+                    return new ImportRow(row, objectMapper.treeToValue(node, EventRequestDto.class), null);
+                } catch (JsonProcessingException | IllegalArgumentException ex) {
+                    String message = ex instanceof JsonProcessingException json ? json.getOriginalMessage() : ex.getMessage();
+                    return new ImportRow(row, null, "Invalid event: " + message);
+                }
+            }
+
+            @Override
+            public long position() {
+                return row + 1;
+            }
+
+            @Override
+            public void close() throws IOException {
+                nodes.close();
+            }
+        };
+    }
+
+    /**
+     * CSV with a header row naming the columns {@code eventDate, endDate, cityId, categoryId, imageUrl, locale, name,
+     * description} in any order; other columns are ignored, so an export can be imported again. Each record holds one
+     * translation, and consecutive records with the same value in an optional {@code id} column form one event.
+     */
+    private RowSource csvRows(InputStream input) throws IOException {
+        CsvReader csv = new CsvReader(new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)));
+        List<String> header = csv.next();
+        if (header == null) {
+            throw new IllegalArgumentException("The CSV file is empty.");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.putIfAbsent(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        List<String> missing = CSV_REQUIRED_COLUMNS.stream().filter(c -> !columns.containsKey(c.toLowerCase(Locale.ROOT))).toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("The CSV header is missing the column(s) " + String.join(", ", missing) + ".");
+        }
+
+        return new RowSource() {
+            private List<String> pending;
+            private long pendingLine;
+
+            @Override
+            public ImportRow next() throws IOException {
+                List<String> first = pending != null ? pending : nextRecord();
+                long line = pending != null ? pendingLine : csv.recordLine();
+                pending = null;
+                if (first == null) {
+                    return null;
+                }
+                String group = value(first, "id");
+                List<List<String>> records = new ArrayList<>();
+                records.add(first);
+                while (group != null) {
+                    List<String> record = nextRecord();
+                    if (record == null) {
+                        break;
+                    }
+                    if (!group.equals(value(record, "id"))) {
+                        pending = record;
+                        pendingLine = csv.recordLine();
+                        break;
+                    }
+                    records.add(record);
+                }
+                try {
+                    return new ImportRow(line, toRequest(records), null);
+                } catch (IllegalArgumentException ex) {
+                    return new ImportRow(line, null, ex.getMessage());
+                }
+            }
+
+            @Override
+            public long position() {
+                return csv.recordLine();
+            }
+
+            @Override
+            public void close() throws IOException {
+                csv.close();
+            }
+
+            private List<String> nextRecord() throws IOException {
+                List<String> record = csv.next();
+                while (record != null && record.size() == 1 && record.get(0).isBlank()) {
+                    record = csv.next();
+                }
+                return record;
+            }
+
+            private EventRequestDto toRequest(List<List<String>> records) {
+                List<String> first = records.get(0);
+                EventRequestDto request = new EventRequestDto();
+                request.setEventDate(dateTime(first, "eventDate"));
+                request.setEndDate(dateTime(first, "endDate"));
+                request.setCityId(number(first, "cityId"));
+                request.setCategoryId(number(first, "categoryId"));
+                request.setImageUrl(value(first, "imageUrl"));
+                List<TranslationDto> translations = new ArrayList<>(records.size());
+                for (List<String> record : records) {
+                    TranslationDto translation = new TranslationDto();
+                    translation.setLocale(value(record, "locale"));
+                    translation.setName(value(record, "name"));
+                    translation.setDescription(value(record, "description"));
+                    translations.add(translation);
+                }
+                request.setTranslations(translations);
+                return request;
+            }
+
+            private String value(List<String> record, String column) {
+                Integer index = columns.get(column.toLowerCase(Locale.ROOT));
+                if (index == null || index >= record.size() || record.get(index).isBlank()) {
+                    return null;
+                }
+                return record.get(index);
+            }
+
+            private ZonedDateTime dateTime(List<String> record, String column) {
+                String value = value(record, column);
+                try {
+                    return value == null ? null : ZonedDateTime.parse(value.trim());
+                } catch (DateTimeParseException ex) {
+                    throw new IllegalArgumentException("Invalid date-time '" + value + "' in column " + column);
+                }
+            }
+
+            private Long number(List<String> record, String column) {
+                String value = value(record, column);
+                try {
+                    return value == null ? null : Long.valueOf(value.trim());
+                } catch (NumberFormatException ex) {
+                    throw new IllegalArgumentException("Invalid number '" + value + "' in column " + column);
+                }
+            }
+        };
+    }
+}
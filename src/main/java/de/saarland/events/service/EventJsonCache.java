@@ -0,0 +1,135 @@
+package de.saarland.events.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import de.saarland.events.dto.EventResponseDto;
+import de.saarland.events.dto.JsonFragment;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Serialized {@link EventResponseDto} JSON per event and requested locale. Each entry remembers the event's data
+ * version ({@link DataVersionRegistry#event}) it was built for, so any write through {@link EventService} (or a
+ * city/category change) makes it stale. The version is read before the event is loaded, which means a concurrent
+ * write can only cause an extra miss, never a stale hit. On top of that, entries of a changed or removed event are
+ * evicted as soon as the change commits. Memory is bounded by the total fragment size.
+ */
+@Component
+public class EventJsonCache {
+
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    private record Key(long eventId, String locale) {
+    }
+
+    private record Entry(String version, JsonFragment json) {
+    }
+
+    private final ObjectMapper objectMapper;
+    private final DataVersionRegistry dataVersionRegistry;
+    private final Cache<Key, Entry> cache;
+    // locales that have entries; bounded by the two-letter codes TranslationFallback accepts
+    private final Set<String> locales = ConcurrentHashMap.newKeySet();
+
+    public EventJsonCache(ObjectMapper objectMapper, DataVersionRegistry dataVersionRegistry, MeterRegistry meterRegistry,
+                          @Value("${app.events.json-cache.max-bytes:33554432}") long maxBytes) {
+        this.objectMapper = objectMapper;
+        this.dataVersionRegistry = dataVersionRegistry;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Key key, Entry entry) -> entry.json().size() + ENTRY_OVERHEAD_BYTES)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "eventJson");
+        dataVersionRegistry.onEventChanged(this::evict);
+    }
+
+    public void evict(Long eventId) {
+        locales.forEach(locale -> cache.invalidate(new Key(eventId, locale)));
+    }
+
+    /**
+     * Returns the JSON of each source in order; only sources without a current fragment are passed to
+     * {@code loader}. Events the loader does not return (e.g. deleted meanwhile) are left out.
+     */
+    public <S> List<JsonFragment> fragments(List<S> sources, Function<S, Long> idOf, Optional<String> locale,
+                                            Function<List<S>, List<EventResponseDto>> loader) {
+        List<JsonFragment> result = new ArrayList<>(sources.size());
+        for (JsonFragment fragment : lookup(sources, idOf, locale, loader)) {
+            if (fragment != null) {
+                result.add(fragment);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Like {@link #fragments}, keyed by event ID in the order of {@code ids}; IDs the loader does not return are absent.
+     */
+    public Map<Long, JsonFragment> fragmentsById(List<Long> ids, Optional<String> locale,
+                                                 Function<List<Long>, List<EventResponseDto>> loader) {
+        JsonFragment[] fragments = lookup(ids, Function.identity(), locale, loader);
+        Map<Long, JsonFragment> result = new LinkedHashMap<>();
+        for (int i = 0; i < fragments.length; i++) {
+            if (fragments[i] != null) {
+                result.put(ids.get(i), fragments[i]);
+            }
+        }
+        return result;
+    }
+
+    private <S> JsonFragment[] lookup(List<S> sources, Function<S, Long> idOf, Optional<String> locale,
+                                      Function<List<S>, List<EventResponseDto>> loader) {
+        String localeKey = locale.orElse("");
+        JsonFragment[] fragments = new JsonFragment[sources.size()];
+        String[] versions = new String[sources.size()];
+        List<S> missing = new ArrayList<>();
+        for (int i = 0; i < sources.size(); i++) {
+            Long id = idOf.apply(sources.get(i));
+            versions[i] = dataVersionRegistry.event(id).etag();
+            Entry entry = cache.getIfPresent(new Key(id, localeKey));
+            if (entry != null && entry.version().equals(versions[i])) {
+                fragments[i] = entry.json();
+            } else {
+                missing.add(sources.get(i));
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            Map<Long, EventResponseDto> loaded = new HashMap<>();
+            for (EventResponseDto dto : loader.apply(missing)) {
+                loaded.put(dto.getId(), dto);
+            }
+            for (int i = 0; i < sources.size(); i++) {
+                if (fragments[i] != null) {
+                    continue;
+                }
+                Long id = idOf.apply(sources.get(i));
+                EventResponseDto dto = loaded.get(id);
+                if (dto != null) {
+                    fragments[i] = serialize(dto);
+                    locales.add(localeKey);
+                    cache.put(new Key(id, localeKey), new Entry(versions[i], fragments[i]));
+                }
+            }
+        }
+        return fragments;
+    }
+
+    private JsonFragment serialize(EventResponseDto dto) {
+        try {
+            return new JsonFragment(objectMapper.writeValueAsBytes(dto));
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
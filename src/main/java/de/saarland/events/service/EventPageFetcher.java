@@ -0,0 +1,133 @@
+package de.saarland.events.service;
+
+import de.saarland.events.dto.CountMode;
+import de.saarland.events.dto.EventResponseDto;
+import de.saarland.events.model.Event;
+import de.saarland.events.repository.EventRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Runs paged event queries with a selectable count strategy: no count at all (a {@link Slice}), an approximate
+ * total cached per filter combination for a short TTL, or an exact count executed alongside the page query. Rows are
+ * read through the DTO projection, so listings never populate the persistence context.
+ */
+@Component
+public class EventPageFetcher {
+
+    private static final int MAX_CACHED_COUNTS = 10_000;
+
+    private final EventRepository eventRepository;
+    private final TransactionTemplate countTransaction;
+    private final ExecutorService countExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, CachedCount> approximateCounts = new ConcurrentHashMap<>();
+    private final long countTtlMs;
+
+    public EventPageFetcher(EventRepository eventRepository, PlatformTransactionManager transactionManager,
+                            @Value("${app.events.count-cache.ttl-ms:30000}") long countTtlMs) {
+        this.eventRepository = eventRepository;
+        this.countTransaction = new TransactionTemplate(transactionManager);
+        this.countTransaction.setReadOnly(true);
+        this.countTtlMs = countTtlMs;
+    }
+
+    public Slice<EventResponseDto> fetch(Specification<Event> spec, Pageable pageable, CountMode countMode, String countKey) {
+        return fetch(spec, pageable, countMode, countKey, Optional.empty());
+    }
+
+    /**
+     * @param countKey identifies the filter combination behind {@code spec}; used for the approximate count cache
+     * @param locale   if present, each event carries only its best matching translation
+     */
+    public Slice<EventResponseDto> fetch(Specification<Event> spec, Pageable pageable, CountMode countMode, String countKey, Optional<String> locale) {
+        return fetch(spec, pageable, countMode, countKey, ids -> eventRepository.findResponsesById(ids, locale));
+    }
+
+    /**
+     * @param loader turns the ordered page of event IDs into the page content
+     */
+    public <T> Slice<T> fetch(Specification<Event> spec, Pageable pageable, CountMode countMode, String countKey, Function<List<Long>, List<T>> loader) {
+        return switch (countMode) {
+            case NONE -> page(spec, pageable, loader);
+            case APPROXIMATE -> fetchWithApproximateCount(spec, pageable, countKey, loader);
+            case EXACT -> fetchWithExactCount(spec, pageable, loader);
+        };
+    }
+
+    private <T> Slice<T> page(Specification<Event> spec, Pageable pageable, Function<List<Long>, List<T>> loader) {
+        Slice<Long> ids = eventRepository.findIdSlice(spec, pageable);
+        return new SliceImpl<>(loader.apply(ids.getContent()), pageable, ids.hasNext());
+    }
+
+    private <T> Slice<T> fetchWithExactCount(Specification<Event> spec, Pageable pageable, Function<List<Long>, List<T>> loader) {
+        CompletableFuture<Long> total = CompletableFuture.supplyAsync(
+                () -> countTransaction.execute(status -> eventRepository.count(spec)), countExecutor);
+        Slice<T> slice = page(spec, pageable, loader);
+        return new PageImpl<>(slice.getContent(), pageable, join(total));
+    }
+
+    private <T> Slice<T> fetchWithApproximateCount(Specification<Event> spec, Pageable pageable, String countKey, Function<List<Long>, List<T>> loader) {
+        Slice<T> slice = page(spec, pageable, loader);
+        long now = System.currentTimeMillis();
+        CachedCount cached = approximateCounts.get(countKey);
+        long total;
+        if (!slice.hasNext() && pageable.isPaged()) {
+            total = pageable.getOffset() + slice.getNumberOfElements();
+        } else if (cached != null && cached.expiresAt() > now) {
+            total = Math.max(cached.total(), pageable.getOffset() + slice.getNumberOfElements() + (slice.hasNext() ? 1 : 0));
+        } else {
+            total = eventRepository.count(spec);
+        }
+        remember(countKey, total, now);
+        return new PageImpl<>(slice.getContent(), pageable, total);
+    }
+
+    private void remember(String countKey, long total, long now) {
+        if (approximateCounts.size() >= MAX_CACHED_COUNTS) {
+            approximateCounts.values().removeIf(c -> c.expiresAt() <= now);
+            if (approximateCounts.size() >= MAX_CACHED_COUNTS) {
+                approximateCounts.clear();
+            }
+        }
+        CachedCount previous = approximateCounts.get(countKey);
+        long expiresAt = previous != null && previous.expiresAt() > now ? previous.expiresAt() : now + countTtlMs;
+        approximateCounts.put(countKey, new CachedCount(total, expiresAt));
+    }
+
+    private static long join(CompletableFuture<Long> total) {
+        try {
+            return total.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw ex;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        countExecutor.shutdown();
+    }
+
+    private record CachedCount(long total, long expiresAt) {
+    }
+}
@@ -0,0 +1,222 @@
+package de.saarland.events.service;
+
+import de.saarland.events.dto.CursorPageDto;
+import de.saarland.events.dto.EventCursor;
+import de.saarland.events.model.Event;
+import de.saarland.events.repository.EventRepository;
+import de.saarland.events.search.EventSearchIndex;
+import de.saarland.events.specification.EventSpecification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Heap-resident read model behind the public event listing. Writes in {@link EventService} and
+ * {@link PremiumCleanupService} are applied incrementally once their transaction commits; a periodic
+ * reload reconciles changes made outside those paths (e.g. by another instance).
+ */
+@Component
+public class EventReadModel {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventReadModel.class);
+    private static final double PREMIUM_BOOST = 1.5;
+
+    private final EventRepository eventRepository;
+    private final EventSpecification eventSpecification;
+    private final EventSearchIndex searchIndex;
+    private final DataVersionRegistry dataVersionRegistry;
+    private final EventClusterIndex eventClusterIndex;
+
+    private volatile EventSnapshot snapshot = EventSnapshot.EMPTY;
+    private volatile boolean loaded = false;
+
+    private boolean reloading = false;
+    private final List<UnaryOperator<EventSnapshot>> changesDuringReload = new ArrayList<>();
+
+    public EventReadModel(EventRepository eventRepository, EventSpecification eventSpecification, EventSearchIndex searchIndex, DataVersionRegistry dataVersionRegistry, EventClusterIndex eventClusterIndex) {
+        this.eventRepository = eventRepository;
+        this.eventSpecification = eventSpecification;
+        this.searchIndex = searchIndex;
+        this.dataVersionRegistry = dataVersionRegistry;
+        this.eventClusterIndex = eventClusterIndex;
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * @param nearbyCities if present, only events in these cities (ID to distance in km)
+     * @param byDistance   order by the city's distance first; ties keep the keyword ranking or listing order
+     */
+    public Page<Event> findEvents(Optional<String> city, Optional<Long> categoryId, Optional<Integer> year, Optional<Integer> month, Optional<String> categoryName, Optional<String> keyword, Optional<Map<Long, Double>> nearbyCities, boolean byDistance, Pageable pageable) {
+        List<Event> matches = snapshot.find(city, categoryId, year, month, categoryName, nearbyCities.map(Map::keySet));
+        if (keyword.isPresent()) {
+            matches = rankByKeyword(matches, keyword.get());
+        }
+        if (byDistance && nearbyCities.isPresent()) {
+            Map<Long, Double> distances = nearbyCities.get();
+            matches = matches.stream()
+                    .sorted(Comparator.comparingDouble(e -> distances.get(e.getCity().getId())))
+                    .toList();
+        }
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(matches, pageable, matches.size());
+        }
+        int from = (int) Math.min(pageable.getOffset(), matches.size());
+        int to = Math.min(from + pageable.getPageSize(), matches.size());
+        return new PageImpl<>(matches.subList(from, to), pageable, matches.size());
+    }
+
+    /**
+     * Keyset variant of {@link #findEvents}. Pages always follow the listing order, so a keyword only filters
+     * here and does not rank.
+     */
+    public CursorPageDto<Event> findEventsAfter(Optional<String> city, Optional<Long> categoryId, Optional<Integer> year, Optional<Integer> month, Optional<String> categoryName, Optional<String> keyword, Optional<Map<Long, Double>> nearbyCities, Optional<EventCursor> cursor, int size) {
+        List<Event> matches = findAll(city, categoryId, year, month, categoryName, keyword, nearbyCities);
+        int from = cursor.map(c -> EventSnapshot.firstAfter(matches, c)).orElse(0);
+        List<Event> rows = matches.subList(from, Math.min(from + size + 1, matches.size()));
+        return CursorPageDto.of(rows, size, event -> EventCursor.of(event).encode());
+    }
+
+    /**
+     * All events matching the listing filters, in listing order; a keyword only filters.
+     */
+    public List<Event> findAll(Optional<String> city, Optional<Long> categoryId, Optional<Integer> year, Optional<Integer> month, Optional<String> categoryName, Optional<String> keyword, Optional<Map<Long, Double>> nearbyCities) {
+        List<Event> filtered = snapshot.find(city, categoryId, year, month, categoryName, nearbyCities.map(Map::keySet));
+        if (keyword.isPresent()) {
+            Map<Long, Double> scores = searchIndex.search(keyword.get());
+            filtered = filtered.stream().filter(e -> scores.containsKey(e.getId())).toList();
+        }
+        return filtered;
+    }
+
+    public void upsert(Event event) {
+        afterCommit(() -> applyUpsert(event));
+    }
+
+    public void remove(Long eventId) {
+        afterCommit(() -> applyRemove(eventId));
+    }
+
+    private List<Event> rankByKeyword(List<Event> candidates, String keyword) {
+        Map<Long, Double> scores = searchIndex.search(keyword);
+        if (scores.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Double> boosted = candidates.stream()
+                .filter(e -> scores.containsKey(e.getId()))
+                .collect(Collectors.toMap(Event::getId, e -> scores.get(e.getId()) * (e.isPremium() ? PREMIUM_BOOST : 1.0)));
+        return candidates.stream()
+                .filter(e -> boosted.containsKey(e.getId()))
+                .sorted(Comparator.<Event>comparingDouble(e -> boosted.get(e.getId())).reversed()
+                        .thenComparing(EventSnapshot.LISTING_ORDER))
+                .toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.events.read-model.reload-ms:300000}", initialDelayString = "${app.events.read-model.reload-ms:300000}")
+    public void reload() {
+        synchronized (this) {
+            reloading = true;
+            changesDuringReload.clear();
+        }
+        try {
+            List<Event> events = eventRepository.findAllWithAssociations(eventSpecification.findByCriteria(
+                    Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty()));
+            EventSnapshot fresh = EventSnapshot.of(events);
+            EventSnapshot before;
+            boolean firstLoad;
+            synchronized (this) {
+                before = snapshot;
+                firstLoad = !loaded;
+                for (UnaryOperator<EventSnapshot> change : changesDuringReload) {
+                    fresh = change.apply(fresh);
+                }
+                snapshot = fresh;
+                eventClusterIndex.update(fresh.cityCounts(ZonedDateTime.now()));
+                loaded = true;
+                searchIndex.rebuild(fresh.events());
+            }
+            // the reload may pick up changes made elsewhere; versions of this node's own changes are bumped already
+            if (firstLoad) {
+                dataVersionRegistry.eventsChanged();
+            } else {
+                dataVersionRegistry.eventsChanged(fresh.changedSince(before));
+            }
+            logger.info("Event read model loaded with {} listed events.", fresh.size());
+        } catch (RuntimeException ex) {
+            logger.error("Failed to load event read model: {}", ex.getMessage());
+        } finally {
+            synchronized (this) {
+                reloading = false;
+                changesDuringReload.clear();
+            }
+        }
+    }
+
+    @Scheduled(fixedRate = 60000)
+    public synchronized void evictEndedEvents() {
+        EventSnapshot before = snapshot;
+        apply(s -> s.withoutEnded(ZonedDateTime.now()));
+        if (snapshot != before) {
+            searchIndex.retainAll(snapshot.events().stream().map(Event::getId).collect(Collectors.toSet()));
+            dataVersionRegistry.eventsChanged();
+        }
+    }
+
+    private synchronized void applyUpsert(Event event) {
+        apply(s -> s.with(event));
+        if (EventSnapshot.isListed(event, ZonedDateTime.now())) {
+            searchIndex.index(event);
+        } else {
+            searchIndex.remove(event.getId());
+        }
+    }
+
+    private synchronized void applyRemove(Long eventId) {
+        apply(s -> s.without(eventId));
+        searchIndex.remove(eventId);
+    }
+
+    private synchronized void apply(UnaryOperator<EventSnapshot> change) {
+        EventSnapshot before = snapshot;
+        snapshot = change.apply(before);
+        if (snapshot != before) {
+            eventClusterIndex.update(snapshot.cityCounts(ZonedDateTime.now()));
+        }
+        if (reloading) {
+            changesDuringReload.add(change);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -2,80 +2,179 @@ package de.saarland.events.service;
 
 import de.saarland.events.dto.AdminStatsDto;
 import de.saarland.events.dto.CityEventCountDto;
+import de.saarland.events.dto.CountMode;
+import de.saarland.events.dto.CursorPageDto;
+import de.saarland.events.dto.EventBatchDto;
+import de.saarland.events.dto.EventCursor;
+import de.saarland.events.dto.EventResponseDto;
+import de.saarland.events.dto.GeoRadius;
+import de.saarland.events.dto.JsonFragment;
+import de.saarland.events.dto.NearDuplicateDto;
+import de.saarland.events.mapper.EventMapper;
 import de.saarland.events.model.*;
 import de.saarland.events.repository.*;
 import de.saarland.events.specification.EventSpecification;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import de.saarland.events.repository.PaymentOrderRepository;
-import java.time.LocalDate;
-import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.time.ZonedDateTime;
-import java.util.Arrays;
 
 @Service
 public class EventService {
+    private static final List<EStatus> ADMIN_CITY_STATUSES = List.of(EStatus.APPROVED, EStatus.REJECTED);
+    private static final int MAX_BATCH_SIZE = 200;
+
     private final EventRepository eventRepository;
     private final CategoryRepository categoryRepository;
-    private final CityRepository cityRepository;
     private final EventSpecification eventSpecification;
     private final UserRepository userRepository;
     private final EmailService emailService;
     private final PaymentOrderRepository paymentOrderRepository;
     private final ReviewRepository reviewRepository;
     private final ReminderRepository reminderRepository;
-
-    public EventService(EventRepository eventRepository, CategoryRepository categoryRepository, CityRepository cityRepository, EventSpecification eventSpecification, UserRepository userRepository, EmailService emailService, PaymentOrderRepository paymentOrderRepository, ReviewRepository reviewRepository, ReminderRepository reminderRepository) {
+    private final EventReadModel eventReadModel;
+    private final EventPageFetcher eventPageFetcher;
+    private final EventMapper eventMapper;
+    private final DataVersionRegistry dataVersionRegistry;
+    private final EventJsonCache eventJsonCache;
+    private final ReferenceDataRegistry referenceDataRegistry;
+    private final EventDuplicateGuard eventDuplicateGuard;
+    private final NearDuplicateDetector nearDuplicateDetector;
+    private final EventTranslationWorker eventTranslationWorker;
+
+    public EventService(EventRepository eventRepository, CategoryRepository categoryRepository, EventSpecification eventSpecification, UserRepository userRepository, EmailService emailService, PaymentOrderRepository paymentOrderRepository, ReviewRepository reviewRepository, ReminderRepository reminderRepository, EventReadModel eventReadModel, EventPageFetcher eventPageFetcher, EventMapper eventMapper, DataVersionRegistry dataVersionRegistry, EventJsonCache eventJsonCache, ReferenceDataRegistry referenceDataRegistry, EventDuplicateGuard eventDuplicateGuard, NearDuplicateDetector nearDuplicateDetector, EventTranslationWorker eventTranslationWorker) {
         this.eventRepository = eventRepository;
         this.categoryRepository = categoryRepository;
-        this.cityRepository = cityRepository;
         this.eventSpecification = eventSpecification;
         this.userRepository = userRepository;
         this.emailService = emailService;
         this.paymentOrderRepository = paymentOrderRepository;
         this.reviewRepository = reviewRepository;
         this.reminderRepository = reminderRepository;
+        this.eventReadModel = eventReadModel;
+        this.eventPageFetcher = eventPageFetcher;
+        this.eventMapper = eventMapper;
+        this.dataVersionRegistry = dataVersionRegistry;
+        this.eventJsonCache = eventJsonCache;
+        this.referenceDataRegistry = referenceDataRegistry;
+        this.eventDuplicateGuard = eventDuplicateGuard;
+        this.nearDuplicateDetector = nearDuplicateDetector;
+        this.eventTranslationWorker = eventTranslationWorker;
     }
 
     @Transactional(readOnly = true)
-    public Page<Event> findAllAdminEventsByCity(String cityName, Pageable pageable) {
-        return eventRepository.findByCityNameAndStatusIn(
-                cityName,
-                Arrays.asList(EStatus.APPROVED, EStatus.REJECTED),
-                pageable
+    public Slice<EventResponseDto> findAllAdminEventsByCity(String cityName, Pageable pageable, CountMode countMode) {
+        return eventPageFetcher.fetch(
+                eventSpecification.byCityNameAndStatusIn(cityName, ADMIN_CITY_STATUSES),
+                pageable, countMode, "admin-city:" + cityName
         );
     }
 
     @Transactional(readOnly = true)
-    public Page<Event> findAllAdminEventsByCityPast(String cityName, Pageable pageable) {
-        return eventRepository.findByCityNameAndEventDateBeforeAndStatusIn(
-                cityName,
-                ZonedDateTime.now(),
-                Arrays.asList(EStatus.APPROVED, EStatus.REJECTED),
-                pageable
-        );
+    public Slice<EventResponseDto> findAllAdminEventsByCityPast(String cityName, Pageable pageable, CountMode countMode) {
+        Specification<Event> spec = eventSpecification.byCityNameAndStatusIn(cityName, ADMIN_CITY_STATUSES)
+                .and(eventSpecification.eventDateBefore(ZonedDateTime.now()));
+        return eventPageFetcher.fetch(spec, pageable, countMode, "admin-city-past:" + cityName);
     }
 
     @Transactional(readOnly = true)
-    public Page<Event> findAllAdminEventsByCityUpcoming(String cityName, Pageable pageable) {
-        return eventRepository.findByCityNameAndEventDateAfterAndStatusIn(
-                cityName,
-                ZonedDateTime.now(),
-                Arrays.asList(EStatus.APPROVED, EStatus.REJECTED),
-                pageable
-        );
+    public Slice<EventResponseDto> findAllAdminEventsByCityUpcoming(String cityName, Pageable pageable, CountMode countMode) {
+        Specification<Event> spec = eventSpecification.byCityNameAndStatusIn(cityName, ADMIN_CITY_STATUSES)
+                .and(eventSpecification.eventDateAfter(ZonedDateTime.now()));
+        return eventPageFetcher.fetch(spec, pageable, countMode, "admin-city-upcoming:" + cityName);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDto<EventResponseDto> findAllAdminEventsByCityAfter(String cityName, Optional<EventCursor> cursor, int size) {
+        return seek(eventSpecification.byCityNameAndStatusIn(cityName, ADMIN_CITY_STATUSES), cursor, size);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDto<EventResponseDto> findAllAdminEventsByCityPastAfter(String cityName, Optional<EventCursor> cursor, int size) {
+        Specification<Event> spec = eventSpecification.byCityNameAndStatusIn(cityName, ADMIN_CITY_STATUSES)
+                .and(eventSpecification.eventDateBefore(ZonedDateTime.now()));
+        return seek(spec, cursor, size);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDto<EventResponseDto> findAllAdminEventsByCityUpcomingAfter(String cityName, Optional<EventCursor> cursor, int size) {
+        Specification<Event> spec = eventSpecification.byCityNameAndStatusIn(cityName, ADMIN_CITY_STATUSES)
+                .and(eventSpecification.eventDateAfter(ZonedDateTime.now()));
+        return seek(spec, cursor, size);
     }
 
+    /**
+     * @param near       if present, only events in cities inside this area
+     * @param byDistance order by the distance of the event's city from the centre of {@code near}, unless the
+     *                   request carries an explicit sort
+     */
     @Transactional(readOnly = true)
-    public Page<Event> findEvents(Optional<String> city, Optional<Long> categoryId, Optional<Integer> year, Optional<Integer> month, Optional<String> categoryName, Optional<String> keyword, Pageable pageable) {
+    public Slice<JsonFragment> findEvents(Optional<String> city, Optional<Long> categoryId, Optional<Integer> year, Optional<Integer> month, Optional<String> categoryName, Optional<String> keyword, Optional<GeoRadius> near, boolean byDistance, Pageable pageable, CountMode countMode, Optional<String> lang) {
+        if (byDistance && near.isEmpty()) {
+            throw new IllegalArgumentException("Sorting by distance requires near=lat,lon.");
+        }
+        Optional<Map<Long, Double>> nearbyCities = near.map(referenceDataRegistry::citiesWithin);
+        if (eventReadModel.isLoaded() && pageable.getSort().isUnsorted()) {
+            Page<Event> page = eventReadModel.findEvents(city, categoryId, year, month, categoryName, keyword, nearbyCities, byDistance, pageable);
+            List<JsonFragment> content = toJson(page.getContent(), lang);
+            return countMode == CountMode.NONE
+                    ? new SliceImpl<>(content, pageable, page.hasNext())
+                    : new PageImpl<>(content, pageable, page.getTotalElements());
+        }
         Specification<Event> spec = eventSpecification.findByCriteria(city, categoryId, year, month, categoryName, keyword);
-        return eventRepository.findAll(spec, pageable);
+        if (nearbyCities.isPresent()) {
+            spec = spec.and(eventSpecification.inCities(nearbyCities.get(), byDistance));
+        }
+        String countKey = String.join("|", "events", String.valueOf(city.orElse(null)), String.valueOf(categoryId.orElse(null)),
+                String.valueOf(year.orElse(null)), String.valueOf(month.orElse(null)), String.valueOf(categoryName.orElse(null)),
+                String.valueOf(keyword.orElse(null)), String.valueOf(near.orElse(null)));
+        return eventPageFetcher.fetch(spec, pageable, countMode, countKey,
+                ids -> eventJsonCache.fragments(ids, Function.identity(), lang, missing -> eventRepository.findResponsesById(missing, lang)));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDto<JsonFragment> findEventsAfter(Optional<String> city, Optional<Long> categoryId, Optional<Integer> year, Optional<Integer> month, Optional<String> categoryName, Optional<String> keyword, Optional<GeoRadius> near, Optional<EventCursor> cursor, int size, Optional<String> lang) {
+        Optional<Map<Long, Double>> nearbyCities = near.map(referenceDataRegistry::citiesWithin);
+        if (eventReadModel.isLoaded()) {
+            return eventReadModel.findEventsAfter(city, categoryId, year, month, categoryName, keyword, nearbyCities, cursor, size)
+                    .mapContent(events -> toJson(events, lang));
+        }
+        Specification<Event> spec = eventSpecification.findByCriteria(city, categoryId, year, month, categoryName, keyword);
+        if (nearbyCities.isPresent()) {
+            spec = spec.and(eventSpecification.inCities(nearbyCities.get(), false));
+        }
+        return seek(spec, cursor, size, lang)
+                .mapContent(rows -> eventJsonCache.fragments(rows, EventResponseDto::getId, lang, missing -> missing));
+    }
+
+    private List<JsonFragment> toJson(List<Event> events, Optional<String> lang) {
+        return eventJsonCache.fragments(events, Event::getId, lang,
+                missing -> missing.stream().map(event -> eventMapper.toResponseDto(event, lang)).toList());
+    }
+
+    private CursorPageDto<EventResponseDto> seek(Specification<Event> spec, Optional<EventCursor> cursor, int size) {
+        return seek(spec, cursor, size, Optional.empty());
+    }
+
+    private CursorPageDto<EventResponseDto> seek(Specification<Event> spec, Optional<EventCursor> cursor, int size, Optional<String> lang) {
+        if (cursor.isPresent()) {
+            spec = spec.and(eventSpecification.afterCursor(cursor.get()));
+        }
+        List<EventResponseDto> rows = eventRepository.findResponseKeysetPage(spec, EventSpecification.KEYSET_SORT, size + 1, lang);
+        return CursorPageDto.of(rows, size, event -> EventCursor.of(event).encode());
     }
 
     @Transactional(readOnly = true)
@@ -84,32 +183,38 @@ public class EventService {
                 .orElseThrow(() -> new EntityNotFoundException("Event with ID " + id + " not found"));
     }
 
+    @Transactional(readOnly = true)
+    public JsonFragment getEventJson(Long id, Optional<String> lang) {
+        return eventJsonCache.fragments(List.of(id), Function.identity(), lang, missing -> eventRepository.findResponsesById(missing, lang)).stream()
+                .findFirst()
+                .orElseThrow(() -> new EntityNotFoundException("Event with ID " + id + " not found"));
+    }
+
+    /**
+     * Events for the given IDs in request order (duplicates collapsed), loaded in one query for everything not
+     * already cached. IDs without an event are listed separately.
+     */
+    @Transactional(readOnly = true)
+    public EventBatchDto getEventsJson(List<Long> ids, Optional<String> lang) {
+        List<Long> distinct = List.copyOf(new LinkedHashSet<>(ids));
+        if (distinct.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_SIZE + " event IDs per request.");
+        }
+        Map<Long, JsonFragment> found = eventJsonCache.fragmentsById(distinct, lang, missing -> eventRepository.findResponsesById(missing, lang));
+        List<Long> missing = distinct.stream().filter(id -> !found.containsKey(id)).toList();
+        return new EventBatchDto(List.copyOf(found.values()), missing);
+    }
+
     @Transactional
     public Event createEvent(Event event, Long categoryId, Long cityId, Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new EntityNotFoundException("User not found with ID " + userId));
-        Category category = categoryRepository.findById(categoryId)
-                .orElseThrow(() -> new EntityNotFoundException("Category with ID " + categoryId + " not found"));
-        City city = cityRepository.findById(cityId)
-                .orElseThrow(() -> new EntityNotFoundException("City with ID " + cityId + " not found"));
-
+        Category category = referenceDataRegistry.categoryReference(categoryId);
+        City city = referenceDataRegistry.cityReference(cityId);
 
-        String germanName = event.getTranslations().stream()
-                .filter(t -> "de".equals(t.getLocale()))
-                .findFirst()
-                .map(Translation::getName)
-                .orElse(null);
-
-        if (germanName != null && !germanName.trim().isEmpty()) {
-            LocalDate eventDate = event.getEventDate().toLocalDate();
-            if (eventRepository.existsDuplicate(germanName, cityId, eventDate)) {
-
-                throw new IllegalArgumentException(
-                        "Ein Ereignis mit demselben Namen, in derselben Stadt und am selben Datum ist bereits vorhanden."
-                );
-            }
-        }
 
+        String duplicateKey = EventDuplicateGuard.keyOf(event.getTranslations(), cityId, event.getEventDate());
+        eventDuplicateGuard.checkUnique(duplicateKey, null);
 
         if (event.getEndDate() == null) {
             event.setEndDate(event.getEventDate());
@@ -123,8 +228,14 @@ public class EventService {
         if (event.getStatus() == null) {
             event.setStatus(EStatus.PENDING);
         }
+        event.setDuplicateKey(duplicateKey);
 
-        return eventRepository.save(event);
+        Event savedEvent = eventDuplicateGuard.flushUnique(() -> eventRepository.saveAndFlush(event));
+        eventDuplicateGuard.register(duplicateKey);
+        eventReadModel.upsert(savedEvent);
+        nearDuplicateDetector.upsert(savedEvent);
+        dataVersionRegistry.eventChanged(savedEvent.getId());
+        return savedEvent;
     }
 
     @Transactional
@@ -144,16 +255,21 @@ public class EventService {
         reminderRepository.deleteAllByEventId(id);
 
         eventRepository.delete(eventToDelete);
+        eventReadModel.remove(id);
+        nearDuplicateDetector.remove(id);
+        dataVersionRegistry.eventRemoved(id);
     }
 
     @Transactional
     public Event updateEvent(Long eventId, Event updatedEventData, Long categoryId, Long cityId) {
         Event existingEvent = eventRepository.findById(eventId)
                 .orElseThrow(() -> new EntityNotFoundException("Event with ID " + eventId + " not found"));
-        Category category = categoryRepository.findById(categoryId)
-                .orElseThrow(() -> new EntityNotFoundException("Category with ID " + categoryId + " not found"));
-        City city = cityRepository.findById(cityId)
-                .orElseThrow(() -> new EntityNotFoundException("City with ID " + cityId + " not found"));
+        Category category = referenceDataRegistry.categoryReference(categoryId);
+        City city = referenceDataRegistry.cityReference(cityId);
+        String duplicateKey = EventDuplicateGuard.keyOf(updatedEventData.getTranslations(), cityId, updatedEventData.getEventDate());
+        if (!Objects.equals(duplicateKey, existingEvent.getDuplicateKey())) {
+            eventDuplicateGuard.checkUnique(duplicateKey, eventId);
+        }
 
         existingEvent.setEventDate(updatedEventData.getEventDate());
 
@@ -173,8 +289,14 @@ public class EventService {
             translation.setEvent(existingEvent);
             existingEvent.getTranslations().add(translation);
         });
+        existingEvent.setDuplicateKey(duplicateKey);
 
-        return eventRepository.save(existingEvent);
+        Event savedEvent = eventDuplicateGuard.flushUnique(() -> eventRepository.saveAndFlush(existingEvent));
+        eventDuplicateGuard.register(duplicateKey);
+        eventReadModel.upsert(savedEvent);
+        nearDuplicateDetector.upsert(savedEvent);
+        dataVersionRegistry.eventChanged(savedEvent.getId());
+        return savedEvent;
     }
 
     @Transactional
@@ -185,8 +307,12 @@ public class EventService {
         EStatus oldStatus = existingEvent.getStatus();
         existingEvent.setStatus(newStatus);
         Event savedEvent = eventRepository.save(existingEvent);
+        eventReadModel.upsert(savedEvent);
+        nearDuplicateDetector.upsert(savedEvent);
+        dataVersionRegistry.eventChanged(savedEvent.getId());
 
         if (oldStatus == EStatus.PENDING && newStatus == EStatus.APPROVED) {
+            eventTranslationWorker.enqueue(savedEvent.getId());
             User creator = savedEvent.getCreatedBy();
             if (creator != null) {
                 emailService.sendEventApprovedEmail(creator, savedEvent);
@@ -196,9 +322,21 @@ public class EventService {
         return savedEvent;
     }
 
+    /**
+     * Pending events for moderation, each with the events it may duplicate.
+     */
     @Transactional(readOnly = true)
-    public Page<Event> findAllEventsForAdmin(Pageable pageable) {
-        return eventRepository.findByStatusOrderByEventDateAsc(EStatus.PENDING, pageable);
+    public Slice<EventResponseDto> findAllEventsForAdmin(Pageable pageable, CountMode countMode) {
+        Slice<EventResponseDto> pending = eventPageFetcher.fetch(eventSpecification.withStatusOrderedByDate(EStatus.PENDING), pageable, countMode, "admin-pending");
+        pending.forEach(event -> event.setNearDuplicates(nearDuplicateDetector.find(event.getId())));
+        return pending;
+    }
+
+    /**
+     * Other events in the same city around the same date whose texts are similar to this event's, most similar first.
+     */
+    public List<NearDuplicateDto> findNearDuplicates(Event event) {
+        return nearDuplicateDetector.find(event);
     }
 
     @Transactional(readOnly = true)
@@ -218,8 +356,13 @@ public class EventService {
     }
 
     @Transactional(readOnly = true)
-    public Page<Event> findEventsByCreator(Long userId, Pageable pageable) {
-        return eventRepository.findByCreatedBy_Id(userId, pageable);
+    public Slice<EventResponseDto> findEventsByCreator(Long userId, Pageable pageable, CountMode countMode) {
+        return eventPageFetcher.fetch(eventSpecification.createdBy(userId), pageable, countMode, "creator:" + userId);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDto<EventResponseDto> findEventsByCreatorAfter(Long userId, Optional<EventCursor> cursor, int size) {
+        return seek(eventSpecification.createdBy(userId), cursor, size);
     }
 
     @Transactional
@@ -0,0 +1,290 @@
+package de.saarland.events.service;
+
+import de.saarland.events.dto.EventCursor;
+import de.saarland.events.model.EStatus;
+import de.saarland.events.model.Event;
+
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Immutable view of the publicly listed events (APPROVED and not yet ended), kept in listing order
+ * (premium first, then by event date) and indexed by city, category, month and premium flag.
+ */
+final class EventSnapshot {
+
+    static final Comparator<Event> LISTING_ORDER = Comparator
+            .comparing(Event::isPremium).reversed()
+            .thenComparing(e -> e.getEventDate().toInstant())
+            .thenComparing(Event::getId);
+
+    static final EventSnapshot EMPTY = new EventSnapshot(List.of());
+
+    private final List<Event> ordered;
+    private final Map<Long, Event> byId;
+    private final Map<String, List<Event>> byCityName;
+    private final Map<Long, List<Event>> byCityId;
+    private final Map<Long, List<Event>> byCategoryId;
+    private final Map<String, List<Event>> byCategoryName;
+    private final Map<YearMonth, List<Event>> byMonth;
+    private final List<Event> premium;
+    private final List<Event> regular;
+
+    private EventSnapshot(Collection<Event> events) {
+        List<Event> sorted = new ArrayList<>(events);
+        sorted.sort(LISTING_ORDER);
+        this.ordered = List.copyOf(sorted);
+
+        Map<Long, Event> ids = new HashMap<>();
+        Map<String, List<Event>> cities = new HashMap<>();
+        Map<Long, List<Event>> cityIds = new HashMap<>();
+        Map<Long, List<Event>> categoryIds = new HashMap<>();
+        Map<String, List<Event>> categoryNames = new HashMap<>();
+        Map<YearMonth, List<Event>> months = new HashMap<>();
+        List<Event> premiumEvents = new ArrayList<>();
+        List<Event> regularEvents = new ArrayList<>();
+
+        for (Event event : ordered) {
+            ids.put(event.getId(), event);
+            if (event.getCity() != null) {
+                cities.computeIfAbsent(event.getCity().getName(), k -> new ArrayList<>()).add(event);
+                cityIds.computeIfAbsent(event.getCity().getId(), k -> new ArrayList<>()).add(event);
+            }
+            if (event.getCategory() != null) {
+                categoryIds.computeIfAbsent(event.getCategory().getId(), k -> new ArrayList<>()).add(event);
+                categoryNames.computeIfAbsent(event.getCategory().getName(), k -> new ArrayList<>()).add(event);
+            }
+            for (YearMonth month : monthBuckets(event.getEventDate())) {
+                months.computeIfAbsent(month, k -> new ArrayList<>()).add(event);
+            }
+            (event.isPremium() ? premiumEvents : regularEvents).add(event);
+        }
+
+        this.byId = Map.copyOf(ids);
+        this.byCityName = freeze(cities);
+        this.byCityId = freeze(cityIds);
+        this.byCategoryId = freeze(categoryIds);
+        this.byCategoryName = freeze(categoryNames);
+        this.byMonth = freeze(months);
+        this.premium = List.copyOf(premiumEvents);
+        this.regular = List.copyOf(regularEvents);
+    }
+
+    static EventSnapshot of(Collection<Event> events) {
+        ZonedDateTime now = ZonedDateTime.now();
+        return new EventSnapshot(events.stream().filter(e -> isListed(e, now)).toList());
+    }
+
+    static boolean isListed(Event event, ZonedDateTime now) {
+        return event.getStatus() == EStatus.APPROVED && !hasEnded(event, now);
+    }
+
+    static boolean hasEnded(Event event, ZonedDateTime now) {
+        ZonedDateTime end = event.getEndDate() != null ? event.getEndDate() : event.getEventDate();
+        return end.isBefore(now);
+    }
+
+    EventSnapshot with(Event event) {
+        Map<Long, Event> events = new LinkedHashMap<>(byId);
+        if (isListed(event, ZonedDateTime.now())) {
+            events.put(event.getId(), event);
+        } else if (events.remove(event.getId()) == null) {
+            return this;
+        }
+        return new EventSnapshot(events.values());
+    }
+
+    EventSnapshot without(Long eventId) {
+        if (!byId.containsKey(eventId)) {
+            return this;
+        }
+        Map<Long, Event> events = new LinkedHashMap<>(byId);
+        events.remove(eventId);
+        return new EventSnapshot(events.values());
+    }
+
+    EventSnapshot withoutEnded(ZonedDateTime now) {
+        if (ordered.stream().noneMatch(e -> hasEnded(e, now))) {
+            return this;
+        }
+        return new EventSnapshot(ordered.stream().filter(e -> !hasEnded(e, now)).toList());
+    }
+
+    List<Event> events() {
+        return ordered;
+    }
+
+    /**
+     * IDs of the events listed in only one of the snapshots or listed in both with different data.
+     */
+    Set<Long> changedSince(EventSnapshot before) {
+        Set<Long> changed = new HashSet<>();
+        before.byId.keySet().stream().filter(id -> !byId.containsKey(id)).forEach(changed::add);
+        byId.forEach((id, event) -> {
+            Event previous = before.byId.get(id);
+            if (previous == null || !sameContent(previous, event)) {
+                changed.add(id);
+            }
+        });
+        return changed;
+    }
+
+    List<Event> premiumEvents() {
+        return premium;
+    }
+
+    List<Event> regularEvents() {
+        return regular;
+    }
+
+    int size() {
+        return ordered.size();
+    }
+
+    /**
+     * Number of events per city ID that have not ended by {@code now}; cities without such events are left out.
+     */
+    Map<Long, Integer> cityCounts(ZonedDateTime now) {
+        Map<Long, Integer> counts = new HashMap<>();
+        byCityId.forEach((cityId, cityEvents) -> {
+            int count = (int) cityEvents.stream().filter(e -> !hasEnded(e, now)).count();
+            if (count > 0) {
+                counts.put(cityId, count);
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Returns the events matching the public listing filters, in listing order. Mirrors
+     * {@link de.saarland.events.specification.EventSpecification#findByCriteria} except for the keyword,
+     * which is resolved through the search index.
+     */
+    List<Event> find(Optional<String> cityName, Optional<Long> categoryId, Optional<Integer> year, Optional<Integer> month,
+                     Optional<String> categoryName, Optional<Set<Long>> cityIds) {
+        ZonedDateTime now = ZonedDateTime.now();
+        List<Predicate<Event>> filters = new ArrayList<>();
+        filters.add(e -> !hasEnded(e, now));
+
+        List<List<Event>> candidates = new ArrayList<>();
+        candidates.add(ordered);
+        cityName.ifPresent(c -> {
+            candidates.add(byCityName.getOrDefault(c, List.of()));
+            filters.add(e -> c.equals(e.getCity().getName()));
+        });
+        cityIds.ifPresent(ids -> {
+            List<Event> inCities = new ArrayList<>();
+            ids.forEach(id -> inCities.addAll(byCityId.getOrDefault(id, List.of())));
+            inCities.sort(LISTING_ORDER);
+            candidates.add(inCities);
+            filters.add(e -> ids.contains(e.getCity().getId()));
+        });
+        categoryId.ifPresent(id -> {
+            candidates.add(byCategoryId.getOrDefault(id, List.of()));
+            filters.add(e -> e.getCategory() != null && id.equals(e.getCategory().getId()));
+        });
+        categoryName.ifPresent(name -> {
+            candidates.add(byCategoryName.getOrDefault(name, List.of()));
+            filters.add(e -> e.getCategory() != null && name.equals(e.getCategory().getName()));
+        });
+
+        ZonedDateTime rangeStart = null;
+        ZonedDateTime rangeEnd = null;
+        if (year.isPresent() && month.isPresent()) {
+            rangeStart = ZonedDateTime.of(year.get(), month.get(), 1, 0, 0, 0, 0, ZoneId.systemDefault());
+            rangeEnd = rangeStart.plusMonths(1);
+            candidates.add(byMonth.getOrDefault(YearMonth.of(year.get(), month.get()), List.of()));
+        } else if (year.isPresent()) {
+            rangeStart = ZonedDateTime.of(year.get(), 1, 1, 0, 0, 0, 0, ZoneId.systemDefault());
+            rangeEnd = rangeStart.plusYears(1);
+        } else if (month.isPresent()) {
+            int currentYear = now.getYear();
+            rangeStart = ZonedDateTime.of(currentYear, month.get(), 1, 0, 0, 0, 0, ZoneId.systemDefault());
+            rangeEnd = rangeStart.plusMonths(1);
+            candidates.add(byMonth.getOrDefault(YearMonth.of(currentYear, month.get()), List.of()));
+        }
+        if (rangeStart != null) {
+            ZonedDateTime start = rangeStart;
+            ZonedDateTime end = rangeEnd;
+            filters.add(e -> !e.getEventDate().isBefore(start) && !e.getEventDate().isAfter(end));
+        }
+
+        List<Event> smallest = candidates.stream().min(Comparator.comparingInt(List::size)).orElse(ordered);
+        Predicate<Event> combined = filters.stream().reduce(e -> true, Predicate::and);
+        return smallest.stream().filter(combined).toList();
+    }
+
+    /**
+     * Index of the first event in {@code events} (which must be in listing order) that sorts after the cursor.
+     */
+    static int firstAfter(List<Event> events, EventCursor cursor) {
+        int low = 0;
+        int high = events.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compareToCursor(events.get(mid), cursor) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int compareToCursor(Event event, EventCursor cursor) {
+        if (event.isPremium() != cursor.premium()) {
+            return event.isPremium() ? -1 : 1;
+        }
+        int byDate = event.getEventDate().toInstant().compareTo(cursor.eventDate().toInstant());
+        if (byDate != 0) {
+            return byDate;
+        }
+        return event.getId().compareTo(cursor.id());
+    }
+
+    // Everything an event's response is built from.
+    private static boolean sameContent(Event a, Event b) {
+        return same(a, b, e -> e.getEventDate().toInstant())
+                && same(a, b, e -> e.getEndDate() == null ? null : e.getEndDate().toInstant())
+                && same(a, b, Event::getImageUrl)
+                && same(a, b, Event::getStatus)
+                && same(a, b, Event::isPremium)
+                && same(a, b, e -> e.getPremiumUntil() == null ? null : e.getPremiumUntil().toInstant())
+                && same(a, b, e -> e.getCity() == null ? null : e.getCity().getId())
+                && same(a, b, e -> e.getCategory() == null ? null : e.getCategory().getId())
+                && same(a, b, e -> e.getCreatedBy() == null ? null : e.getCreatedBy().getId())
+                && same(a, b, EventSnapshot::translations);
+    }
+
+    private static boolean same(Event a, Event b, Function<Event, Object> attribute) {
+        return Objects.equals(attribute.apply(a), attribute.apply(b));
+    }
+
+    private static Set<List<String>> translations(Event event) {
+        Set<List<String>> texts = new HashSet<>();
+        event.getTranslations().forEach(t -> texts.add(Arrays.asList(t.getLocale(), t.getName(), t.getDescription())));
+        return texts;
+    }
+
+    // The month filter is an inclusive BETWEEN, so an event starting exactly at midnight on the 1st
+    // also belongs to the previous month's range.
+    private static List<YearMonth> monthBuckets(ZonedDateTime eventDate) {
+        ZonedDateTime local = eventDate.withZoneSameInstant(ZoneId.systemDefault());
+        YearMonth month = YearMonth.from(local);
+        if (local.getDayOfMonth() == 1 && local.toLocalTime().equals(LocalTime.MIDNIGHT)) {
+            return List.of(month, month.minusMonths(1));
+        }
+        return List.of(month);
+    }
+
+    private static <K> Map<K, List<Event>> freeze(Map<K, List<Event>> index) {
+        Map<K, List<Event>> frozen = new HashMap<>();
+        index.forEach((key, events) -> frozen.put(key, List.copyOf(events)));
+        return Map.copyOf(frozen);
+    }
+}
@@ -0,0 +1,316 @@
+package de.saarland.events.service;
+
+import com.deepl.api.AuthorizationException;
+import com.deepl.api.DeepLException;
+import com.deepl.api.QuotaExceededException;
+import de.saarland.events.mapper.TranslationFallback;
+import de.saarland.events.model.EStatus;
+import de.saarland.events.model.Event;
+import de.saarland.events.model.Translation;
+import de.saarland.events.repository.EventRepository;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Fills in the missing locales of approved events in the background. Events are queued when approved and by a
+ * periodic sweep; a fixed number of workers take them in batches and translate the German name and description of
+ * the whole batch with one multi-text DeepL request per locale. DeepL requests share a rate limiter, failed batches
+ * are retried with exponential backoff, and all work pauses when the DeepL quota is used up. Nothing waits for this:
+ * readers see the German text until the translations are committed.
+ */
+@Component
+public class EventTranslationWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventTranslationWorker.class);
+    private static final Duration MAX_RETRY_DELAY = Duration.ofHours(1);
+
+    private enum Field {NAME, DESCRIPTION}
+
+    private record Text(Long eventId, String locale, Field field, String source) {
+    }
+
+    private final EventRepository eventRepository;
+    private final TranslationService translationService;
+    private final EventReadModel eventReadModel;
+    private final NearDuplicateDetector nearDuplicateDetector;
+    private final DataVersionRegistry dataVersionRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final List<String> locales;
+    private final int workers;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retryDelay;
+    private final Duration quotaPause;
+    private final RateLimiter deeplLimiter;
+
+    private final BlockingQueue<Long> queue = new LinkedBlockingQueue<>();
+    private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+    private final Map<Long, Integer> attempts = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService retryScheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("event-translation-retry").daemon().factory());
+    private final ExecutorService workerThreads = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("event-translation-", 0).factory());
+    private volatile Instant pausedUntil = Instant.EPOCH;
+
+    public EventTranslationWorker(EventRepository eventRepository, TranslationService translationService, EventReadModel eventReadModel,
+                                  NearDuplicateDetector nearDuplicateDetector, DataVersionRegistry dataVersionRegistry, PlatformTransactionManager transactionManager,
+                                  @Value("${app.events.translation.locales:en,fr}") List<String> locales,
+                                  @Value("${app.events.translation.workers:2}") int workers,
+                                  @Value("${app.events.translation.batch-size:10}") int batchSize,
+                                  @Value("${app.events.translation.max-attempts:6}") int maxAttempts,
+                                  @Value("${app.events.translation.retry-delay:PT30S}") Duration retryDelay,
+                                  @Value("${app.events.translation.quota-pause:PT1H}") Duration quotaPause,
+                                  @Value("${app.events.translation.deepl-requests-per-minute:30}") int deeplRequestsPerMinute) {
+        this.eventRepository = eventRepository;
+        this.translationService = translationService;
+        this.eventReadModel = eventReadModel;
+        this.nearDuplicateDetector = nearDuplicateDetector;
+        this.dataVersionRegistry = dataVersionRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.locales = locales.stream()
+                .map(String::trim)
+                .filter(locale -> !locale.isEmpty() && !locale.equals(TranslationFallback.DEFAULT_LOCALE))
+                .toList();
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryDelay = retryDelay;
+        this.quotaPause = quotaPause;
+        this.deeplLimiter = RateLimiter.of("deepl-background", RateLimiterConfig.custom()
+                .limitForPeriod(deeplRequestsPerMinute)
+                .limitRefreshPeriod(Duration.ofMinutes(1))
+                .timeoutDuration(Duration.ofMinutes(5))
+                .build());
+    }
+
+    /**
+     * Queues the event once the current transaction commits; an event already waiting is not queued twice.
+     */
+    public void enqueue(Long eventId) {
+        if (locales.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> {
+            if (queued.add(eventId)) {
+                queue.add(eventId);
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (locales.isEmpty()) {
+            return;
+        }
+        for (int i = 0; i < workers; i++) {
+            workerThreads.execute(this::work);
+        }
+        sweep();
+    }
+
+    /**
+     * Queues approved events still missing a locale, e.g. because they were approved before a restart.
+     */
+    @Scheduled(fixedDelayString = "${app.events.translation.sweep-ms:3600000}", initialDelayString = "${app.events.translation.sweep-ms:3600000}")
+    public void sweep() {
+        if (locales.isEmpty()) {
+            return;
+        }
+        List<Long> ids = eventRepository.findIdsMissingTranslations(EStatus.APPROVED, ZonedDateTime.now(), locales, locales.size());
+        ids.forEach(this::enqueue);
+        if (!ids.isEmpty()) {
+            logger.info("Queued {} approved events for translation.", ids.size());
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        workerThreads.shutdownNow();
+        retryScheduler.shutdownNow();
+    }
+
+    private void work() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                List<Long> batch = new ArrayList<>(batchSize);
+                batch.add(queue.take());
+                queue.drainTo(batch, batchSize - 1);
+                batch.forEach(queued::remove);
+                Duration pause = Duration.between(Instant.now(), pausedUntil);
+                if (pause.isPositive()) {
+                    Thread.sleep(pause);
+                }
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                logger.error("Event translation worker failed: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private void process(List<Long> batch) throws InterruptedException {
+        List<Text> texts = transactionTemplate.execute(status -> missingTexts(batch));
+        if (texts == null || texts.isEmpty()) {
+            batch.forEach(attempts::remove);
+            return;
+        }
+        Map<Text, String> translated = new HashMap<>();
+        try {
+            Map<String, List<Text>> byLocale = new LinkedHashMap<>();
+            texts.forEach(text -> byLocale.computeIfAbsent(text.locale(), k -> new ArrayList<>()).add(text));
+            for (Map.Entry<String, List<Text>> entry : byLocale.entrySet()) {
+                List<Text> localeTexts = entry.getValue();
+                for (int from = 0; from < localeTexts.size(); from += TranslationService.MAX_TEXTS_PER_REQUEST) {
+                    List<Text> chunk = localeTexts.subList(from, Math.min(from + TranslationService.MAX_TEXTS_PER_REQUEST, localeTexts.size()));
+                    RateLimiter.waitForPermission(deeplLimiter);
+                    List<String> results = translationService.translateAll(chunk.stream().map(Text::source).toList(), deeplTarget(entry.getKey()));
+                    for (int i = 0; i < chunk.size(); i++) {
+                        translated.put(chunk.get(i), results.get(i));
+                    }
+                }
+            }
+        } catch (QuotaExceededException e) {
+            pausedUntil = Instant.now().plus(quotaPause);
+            logger.warn("DeepL quota exceeded; pausing event translation until {}.", pausedUntil);
+            batch.forEach(this::requeue);
+            return;
+        } catch (AuthorizationException e) {
+            logger.error("DeepL rejected the API key; {} events were not translated.", batch.size());
+            return;
+        } catch (DeepLException | RuntimeException e) {
+            logger.warn("Translating events {} failed: {}", batch, e.getMessage());
+            batch.forEach(this::retryLater);
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> addTranslations(batch, translated));
+        batch.forEach(attempts::remove);
+    }
+
+    private List<Text> missingTexts(List<Long> eventIds) {
+        List<Text> texts = new ArrayList<>();
+        for (Event event : eventRepository.findAllById(eventIds)) {
+            if (event.getStatus() != EStatus.APPROVED) {
+                continue;
+            }
+            Optional<Translation> german = event.getTranslations().stream()
+                    .filter(t -> TranslationFallback.DEFAULT_LOCALE.equals(t.getLocale()))
+                    .findFirst();
+            if (german.isEmpty()) {
+                continue;
+            }
+            for (String locale : missingLocales(event)) {
+                texts.add(new Text(event.getId(), locale, Field.NAME, german.get().getName()));
+                String description = german.get().getDescription();
+                if (description != null && !description.isBlank()) {
+                    texts.add(new Text(event.getId(), locale, Field.DESCRIPTION, description));
+                }
+            }
+        }
+        return texts;
+    }
+
+    private void addTranslations(List<Long> eventIds, Map<Text, String> translated) {
+        Map<Long, Map<String, Translation>> byEvent = new HashMap<>();
+        translated.forEach((text, result) -> {
+            Translation translation = byEvent.computeIfAbsent(text.eventId(), k -> new HashMap<>())
+                    .computeIfAbsent(text.locale(), locale -> {
+                        Translation t = new Translation();
+                        t.setLocale(locale);
+                        return t;
+                    });
+            if (text.field() == Field.NAME) {
+                translation.setName(result);
+            } else {
+                translation.setDescription(result);
+            }
+        });
+        // Locked before the re-check, so a worker on another node holding the same event waits and then finds the
+        // locales filled in instead of adding them a second time.
+        for (Event event : eventRepository.findAllForUpdateByIdIn(eventIds)) {
+            Map<String, Translation> additions = byEvent.getOrDefault(event.getId(), Map.of());
+            // the event may have been edited meanwhile; never overwrite a translation that exists now
+            List<String> missing = missingLocales(event);
+            boolean changed = false;
+            for (Translation translation : additions.values()) {
+                if (missing.contains(translation.getLocale())) {
+                    translation.setEvent(event);
+                    event.getTranslations().add(translation);
+                    changed = true;
+                }
+            }
+            if (changed) {
+                eventRepository.save(event);
+                eventReadModel.upsert(event);
+                nearDuplicateDetector.upsert(event);
+                dataVersionRegistry.eventChanged(event.getId());
+            }
+        }
+    }
+
+    private List<String> missingLocales(Event event) {
+        Set<String> present = new HashSet<>();
+        event.getTranslations().forEach(t -> present.add(t.getLocale()));
+        return locales.stream().filter(locale -> !present.contains(locale)).toList();
+    }
+
+    private void retryLater(Long eventId) {
+        int attempt = attempts.merge(eventId, 1, Integer::sum);
+        if (attempt >= maxAttempts) {
+            attempts.remove(eventId);
+            logger.error("Giving up translating event {} after {} attempts.", eventId, attempt);
+            return;
+        }
+        Duration delay = retryDelay.multipliedBy(1L << Math.min(attempt - 1, 20));
+        if (delay.compareTo(MAX_RETRY_DELAY) > 0) {
+            delay = MAX_RETRY_DELAY;
+        }
+        retryScheduler.schedule(() -> requeue(eventId), delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void requeue(Long eventId) {
+        if (queued.add(eventId)) {
+            queue.add(eventId);
+        }
+    }
+
+    // DeepL only accepts English and Portuguese targets with a regional variant.
+    private static String deeplTarget(String locale) {
+        return switch (locale) {
+            case "en" -> "EN-GB";
+            case "pt" -> "PT-PT";
+            default -> locale.toUpperCase(Locale.ROOT);
+        };
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
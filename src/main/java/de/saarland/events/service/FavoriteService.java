@@ -1,6 +1,7 @@
 
 package de.saarland.events.service;
 
+import de.saarland.events.dto.EventResponseDto;
 import de.saarland.events.model.Event;
 import de.saarland.events.model.User;
 import de.saarland.events.repository.EventRepository;
@@ -9,6 +10,8 @@ import jakarta.persistence.EntityNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 @Service
@@ -50,4 +53,12 @@ public class FavoriteService {
                 .orElseThrow(() -> new EntityNotFoundException("User not found with id: " + userId));
         return user.getFavoriteEvents();
     }
+
+    @Transactional(readOnly = true)
+    public List<EventResponseDto> getFavoriteResponses(Long userId, Optional<String> lang) {
+        if (!userRepository.existsById(userId)) {
+            throw new EntityNotFoundException("User not found with id: " + userId);
+        }
+        return eventRepository.findResponsesById(userRepository.findFavoriteEventIds(userId), lang);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,178 @@
+package de.saarland.events.service;
+
+import de.saarland.events.dto.NearDuplicateDto;
+import de.saarland.events.model.EStatus;
+import de.saarland.events.model.Event;
+import de.saarland.events.repository.EventRepository;
+import de.saarland.events.search.NearDuplicateIndex;
+import de.saarland.events.search.SimHash;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Flags events that look like an existing event submitted again with a reworded name or description. Every event that
+ * is not rejected is fingerprinted when written and kept in the {@link NearDuplicateIndex}, which is loaded at
+ * startup; candidates are events in the same city within a few days whose texts are similar enough.
+ */
+@Component
+public class NearDuplicateDetector {
+
+    private static final Logger logger = LoggerFactory.getLogger(NearDuplicateDetector.class);
+
+    private final EventRepository eventRepository;
+    private final NearDuplicateIndex index;
+    private final TransactionTemplate loadTransaction;
+    private final int windowDays;
+    private final double minSimilarity;
+    private final int maxResults;
+
+    private boolean loading = false;
+    private final List<Consumer<NearDuplicateIndex>> changesDuringLoad = new ArrayList<>();
+
+    public NearDuplicateDetector(EventRepository eventRepository, NearDuplicateIndex index, PlatformTransactionManager transactionManager,
+                                 @Value("${app.events.near-duplicates.window-days:1}") int windowDays,
+                                 @Value("${app.events.near-duplicates.min-similarity:0.75}") double minSimilarity,
+                                 @Value("${app.events.near-duplicates.max-results:5}") int maxResults) {
+        this.eventRepository = eventRepository;
+        this.index = index;
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setReadOnly(true);
+        this.windowDays = windowDays;
+        this.minSimilarity = minSimilarity;
+        this.maxResults = maxResults;
+    }
+
+    /**
+     * Candidates for an event as it is now, whether or not it has been indexed yet.
+     */
+    public List<NearDuplicateDto> find(Event event) {
+        return toDtos(index.similar(document(event), windowDays, minSimilarity, maxResults));
+    }
+
+    /**
+     * Candidates for an indexed event; empty for rejected events.
+     */
+    public List<NearDuplicateDto> find(Long eventId) {
+        return toDtos(index.similar(eventId, windowDays, minSimilarity, maxResults));
+    }
+
+    /**
+     * Indexes the event as it is now once the transaction commits; rejected events are dropped from the index.
+     */
+    public void upsert(Event event) {
+        if (event.getStatus() == EStatus.REJECTED) {
+            remove(event.getId());
+            return;
+        }
+        NearDuplicateIndex.Document document = document(event);
+        afterCommit(() -> apply(target -> target.index(document)));
+    }
+
+    public void remove(Long eventId) {
+        afterCommit(() -> apply(target -> target.remove(eventId)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        synchronized (this) {
+            loading = true;
+            changesDuringLoad.clear();
+        }
+        try {
+            List<NearDuplicateIndex.Document> documents = loadTransaction.execute(status -> {
+                try (Stream<Object[]> rows = eventRepository.streamTranslationTexts(EStatus.REJECTED)) {
+                    return documents(rows);
+                }
+            });
+            synchronized (this) {
+                index.rebuild(documents);
+                changesDuringLoad.forEach(change -> change.accept(index));
+            }
+            logger.info("Near-duplicate index loaded with {} events.", index.size());
+        } catch (RuntimeException ex) {
+            logger.error("Failed to load near-duplicate index: {}", ex.getMessage());
+        } finally {
+            synchronized (this) {
+                loading = false;
+                changesDuringLoad.clear();
+            }
+        }
+    }
+
+    // Rows arrive grouped by event, one per translation.
+    private static List<NearDuplicateIndex.Document> documents(Stream<Object[]> rows) {
+        List<NearDuplicateIndex.Document> documents = new ArrayList<>();
+        Object[] current = null;
+        Map<String, Long> fingerprints = new HashMap<>();
+        for (Iterator<Object[]> it = rows.iterator(); it.hasNext(); ) {
+            Object[] row = it.next();
+            if (current == null || !current[0].equals(row[0])) {
+                if (current != null) {
+                    documents.add(document(current, fingerprints));
+                }
+                current = row;
+                fingerprints = new HashMap<>();
+            }
+            String locale = (String) row[3];
+            Map<String, Long> target = fingerprints;
+            SimHash.fingerprint(locale, (String) row[4], (String) row[5]).ifPresent(fingerprint -> target.put(locale, fingerprint));
+        }
+        if (current != null) {
+            documents.add(document(current, fingerprints));
+        }
+        return documents;
+    }
+
+    private static NearDuplicateIndex.Document document(Object[] row, Map<String, Long> fingerprints) {
+        ZonedDateTime eventDate = (ZonedDateTime) row[2];
+        return new NearDuplicateIndex.Document((Long) row[0], (Long) row[1],
+                eventDate.withZoneSameInstant(EventDuplicateGuard.EVENT_ZONE).toLocalDate(), fingerprints);
+    }
+
+    private static NearDuplicateIndex.Document document(Event event) {
+        Map<String, Long> fingerprints = new HashMap<>();
+        event.getTranslations().forEach(translation -> SimHash.fingerprint(translation.getLocale(), translation.getName(), translation.getDescription())
+                .ifPresent(fingerprint -> fingerprints.put(translation.getLocale(), fingerprint)));
+        return new NearDuplicateIndex.Document(event.getId(), event.getCity().getId(),
+                event.getEventDate().withZoneSameInstant(EventDuplicateGuard.EVENT_ZONE).toLocalDate(), fingerprints);
+    }
+
+    private static List<NearDuplicateDto> toDtos(Map<Long, Double> similar) {
+        return similar.entrySet().stream()
+                .map(entry -> new NearDuplicateDto(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    private synchronized void apply(Consumer<NearDuplicateIndex> change) {
+        change.accept(index);
+        if (loading) {
+            changesDuringLoad.add(change);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
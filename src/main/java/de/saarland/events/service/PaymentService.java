@@ -19,7 +19,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.ZonedDateTime;
 import java.util.Map;
@@ -37,6 +42,10 @@ public class PaymentService {
     private final UserRepository userRepository;
     private final PaymentOrderRepository paymentOrderRepository;
     private final EmailService emailService;
+    private final EventReadModel eventReadModel;
+    private final DataVersionRegistry dataVersionRegistry;
+    private final DeadlineScheduler deadlineScheduler;
+    private final TransactionTemplate emailTransaction;
 
     private static final Map<Integer, Long> TARIFFS = Map.of(
             3, 1000L,
@@ -45,11 +54,16 @@ public class PaymentService {
             30, 5000L
     );
 
-    public PaymentService(EventRepository eventRepository, UserRepository userRepository, PaymentOrderRepository paymentOrderRepository, EmailService emailService) {
+    public PaymentService(EventRepository eventRepository, UserRepository userRepository, PaymentOrderRepository paymentOrderRepository, EmailService emailService, EventReadModel eventReadModel, DataVersionRegistry dataVersionRegistry, DeadlineScheduler deadlineScheduler, PlatformTransactionManager transactionManager) {
         this.eventRepository = eventRepository;
         this.userRepository = userRepository;
         this.paymentOrderRepository = paymentOrderRepository;
         this.emailService = emailService;
+        this.eventReadModel = eventReadModel;
+        this.dataVersionRegistry = dataVersionRegistry;
+        this.deadlineScheduler = deadlineScheduler;
+        this.emailTransaction = new TransactionTemplate(transactionManager);
+        this.emailTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
     }
 
     @PostConstruct
@@ -156,15 +170,14 @@ public class PaymentService {
                     event.setPremiumUntil(ZonedDateTime.now().plusDays(order.getPromotionDays()));
 
                     eventRepository.save(event);
+                    eventReadModel.upsert(event);
+                    dataVersionRegistry.eventChanged(event.getId());
+                    deadlineScheduler.premiumScheduled(event.getId(), event.getPremiumUntil());
                     paymentOrderRepository.save(order);
                     logger.info("Successfully updated Event ID {} to premium. New status for Order ID {} is PAID.", event.getId(), order.getId());
 
-                    try {
-                        emailService.sendPromotionConfirmationEmail(order.getUser(), event);
-                        logger.info("Promotion confirmation email sent to {}.", order.getUser().getEmail());
-                    } catch (Exception emailEx) {
-                        logger.error("Failed to send promotion confirmation email.", emailEx);
-                    }
+                    Long orderId = order.getId();
+                    afterCommit(() -> queuePromotionConfirmation(orderId));
                 } else {
                     logger.warn("Order with ID {} was already processed. Current status: {}. No action taken.", order.getId(), order.getStatus());
                 }
@@ -174,4 +187,32 @@ public class PaymentService {
             }
         }
     }
-}
\ No newline at end of file
+
+    // Runs once the payment has committed, in a transaction of its own, so a failure to queue the mail is only logged
+    // and can no longer roll the payment back or make Stripe retry the webhook.
+    private void queuePromotionConfirmation(Long orderId) {
+        try {
+            emailTransaction.executeWithoutResult(status -> {
+                PaymentOrder order = paymentOrderRepository.findById(orderId)
+                        .orElseThrow(() -> new EntityNotFoundException("PaymentOrder not found"));
+                emailService.sendPromotionConfirmationEmail(order.getUser(), order.getEvent());
+                logger.info("Promotion confirmation email queued for {}.", order.getUser().getEmail());
+            });
+        } catch (RuntimeException emailEx) {
+            logger.error("Failed to queue promotion confirmation email for order {}.", orderId, emailEx);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -4,40 +4,47 @@ import de.saarland.events.model.Event;
 import de.saarland.events.repository.EventRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.ZonedDateTime;
-import java.util.List;
+import java.util.Collection;
 
 @Service
 public class PremiumCleanupService {
 
     private static final Logger logger = LoggerFactory.getLogger(PremiumCleanupService.class);
     private final EventRepository eventRepository;
+    private final EventReadModel eventReadModel;
+    private final DataVersionRegistry dataVersionRegistry;
 
-    public PremiumCleanupService(EventRepository eventRepository) {
+    public PremiumCleanupService(EventRepository eventRepository, EventReadModel eventReadModel, DataVersionRegistry dataVersionRegistry) {
         this.eventRepository = eventRepository;
+        this.eventReadModel = eventReadModel;
+        this.dataVersionRegistry = dataVersionRegistry;
     }
 
-    @Scheduled(cron = "0 0 1 * * ?") // Run every day at 1 AM
+    /**
+     * Ends the promotion of the given events whose premium period is over; triggered by the {@link DeadlineScheduler}.
+     * Events promoted again in the meantime are left alone.
+     */
     @Transactional
-    public void cleanupExpiredPremiums() {
-        logger.info("Running scheduled job to clean up expired premium events...");
-
-        List<Event> expiredEvents = eventRepository.findByIsPremiumTrueAndPremiumUntilBefore(ZonedDateTime.now());
-
-        if (expiredEvents.isEmpty()) {
-            logger.info("No expired premium events found.");
-            return;
-        }
-
-        logger.info("Found {} expired premium events to clean up.", expiredEvents.size());
-        for (Event event : expiredEvents) {
+    public void expire(Collection<Long> eventIds) {
+        ZonedDateTime now = ZonedDateTime.now();
+        int expired = 0;
+        for (Event event : eventRepository.findAllById(eventIds)) {
+            if (!event.isPremium() || event.getPremiumUntil() == null || event.getPremiumUntil().isAfter(now)) {
+                continue;
+            }
             event.setPremium(false);
             event.setPremiumUntil(null);
             eventRepository.save(event);
+            eventReadModel.upsert(event);
+            dataVersionRegistry.eventChanged(event.getId());
+            expired++;
+        }
+        if (expired > 0) {
+            logger.info("Premium period ended for {} events.", expired);
         }
     }
 }
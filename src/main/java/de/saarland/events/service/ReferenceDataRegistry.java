@@ -0,0 +1,162 @@
+package de.saarland.events.service;
+
+import de.saarland.events.dto.CategoryDto;
+import de.saarland.events.dto.CityDto;
+import de.saarland.events.dto.GeoRadius;
+import de.saarland.events.mapper.CategoryMapper;
+import de.saarland.events.mapper.CityMapper;
+import de.saarland.events.model.Category;
+import de.saarland.events.model.City;
+import de.saarland.events.repository.CategoryRepository;
+import de.saarland.events.repository.CityRepository;
+import de.saarland.events.search.CityGeoIndex;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory copy of the cities and categories. Each table is held as an immutable snapshot of pre-built DTOs that
+ * are shared by all responses; {@link CityService} and {@link CategoryService} swap in a fresh snapshot once their
+ * transaction commits. Changes made on another instance are picked up by a periodic reload, or sooner when an ID
+ * missing from the snapshot turns out to exist. The DTOs must not be modified by callers.
+ */
+@Component
+public class ReferenceDataRegistry {
+
+    private record Snapshot<D>(List<D> all, Map<Long, D> byId) {
+
+        static <D> Snapshot<D> of(List<D> dtos, Function<D, Long> idOf) {
+            List<D> sorted = dtos.stream().sorted(Comparator.comparing(idOf)).toList();
+            return new Snapshot<>(sorted, sorted.stream().collect(Collectors.toUnmodifiableMap(idOf, Function.identity())));
+        }
+    }
+
+    private final CityRepository cityRepository;
+    private final CategoryRepository categoryRepository;
+    private final CityMapper cityMapper;
+    private final CategoryMapper categoryMapper;
+
+    private volatile Snapshot<CityDto> cities;
+    private volatile CityGeoIndex cityGeoIndex = CityGeoIndex.EMPTY;
+    private volatile Snapshot<CategoryDto> categories;
+
+    public ReferenceDataRegistry(CityRepository cityRepository, CategoryRepository categoryRepository, CityMapper cityMapper, CategoryMapper categoryMapper) {
+        this.cityRepository = cityRepository;
+        this.categoryRepository = categoryRepository;
+        this.cityMapper = cityMapper;
+        this.categoryMapper = categoryMapper;
+    }
+
+    public List<CityDto> cities() {
+        return citySnapshot().all();
+    }
+
+    public List<CategoryDto> categories() {
+        return categorySnapshot().all();
+    }
+
+    public Optional<CityDto> city(Long id) {
+        CityDto city = citySnapshot().byId().get(id);
+        if (city == null && id != null && cityRepository.existsById(id)) {
+            // created on another instance since the last reload
+            city = reloadCities().byId().get(id);
+        }
+        return Optional.ofNullable(city);
+    }
+
+    public Optional<CategoryDto> category(Long id) {
+        CategoryDto category = categorySnapshot().byId().get(id);
+        if (category == null && id != null && categoryRepository.existsById(id)) {
+            category = reloadCategories().byId().get(id);
+        }
+        return Optional.ofNullable(category);
+    }
+
+    /**
+     * IDs of the cities inside the area mapped to their distance in kilometres, nearest first.
+     */
+    public Map<Long, Double> citiesWithin(GeoRadius area) {
+        citySnapshot();
+        return cityGeoIndex.within(area);
+    }
+
+    /**
+     * Detached {@link City} for assigning to an event; it is not cascaded, so saving the event only uses its ID.
+     */
+    public City cityReference(Long id) {
+        CityDto dto = city(id).orElseThrow(() -> new EntityNotFoundException("City with ID " + id + " not found"));
+        City city = new City(dto.getName());
+        city.setId(dto.getId());
+        city.setLatitude(dto.getLatitude());
+        city.setLongitude(dto.getLongitude());
+        return city;
+    }
+
+    public Category categoryReference(Long id) {
+        CategoryDto dto = category(id).orElseThrow(() -> new EntityNotFoundException("Category with ID " + id + " not found"));
+        Category category = new Category(dto.getName(), dto.getDescription());
+        category.setId(dto.getId());
+        return category;
+    }
+
+    public void citiesChanged() {
+        afterCommit(this::reloadCities);
+    }
+
+    public void categoriesChanged() {
+        afterCommit(this::reloadCategories);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.reference-data.reload-ms:300000}", initialDelayString = "${app.reference-data.reload-ms:300000}")
+    public void reload() {
+        reloadCities();
+        reloadCategories();
+    }
+
+    private Snapshot<CityDto> citySnapshot() {
+        Snapshot<CityDto> snapshot = cities;
+        return snapshot != null ? snapshot : reloadCities();
+    }
+
+    private Snapshot<CategoryDto> categorySnapshot() {
+        Snapshot<CategoryDto> snapshot = categories;
+        return snapshot != null ? snapshot : reloadCategories();
+    }
+
+    private synchronized Snapshot<CityDto> reloadCities() {
+        Snapshot<CityDto> snapshot = Snapshot.of(cityRepository.findAll().stream().map(cityMapper::toDto).toList(), CityDto::getId);
+        cityGeoIndex = CityGeoIndex.of(snapshot.all());
+        cities = snapshot;
+        return snapshot;
+    }
+
+    private synchronized Snapshot<CategoryDto> reloadCategories() {
+        categories = Snapshot.of(categoryRepository.findAll().stream().map(categoryMapper::toDto).toList(), CategoryDto::getId);
+        return categories;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
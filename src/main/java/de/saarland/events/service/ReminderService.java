@@ -19,11 +19,13 @@ public class ReminderService {
     private final ReminderRepository reminderRepository;
     private final UserRepository userRepository;
     private final EventRepository eventRepository;
+    private final DeadlineScheduler deadlineScheduler;
 
-    public ReminderService(ReminderRepository reminderRepository, UserRepository userRepository, EventRepository eventRepository) {
+    public ReminderService(ReminderRepository reminderRepository, UserRepository userRepository, EventRepository eventRepository, DeadlineScheduler deadlineScheduler) {
         this.reminderRepository = reminderRepository;
         this.userRepository = userRepository;
         this.eventRepository = eventRepository;
+        this.deadlineScheduler = deadlineScheduler;
     }
 
     @Transactional
@@ -45,5 +47,6 @@ public class ReminderService {
         reminder.setSent(false);
 
         reminderRepository.save(reminder);
+        deadlineScheduler.reminderScheduled(reminder.getId(), remindAt);
     }
 }
\ No newline at end of file
@@ -3,43 +3,185 @@ package de.saarland.events.service;
 
 import de.saarland.events.model.Reminder;
 import de.saarland.events.repository.ReminderRepository;
-import org.springframework.scheduling.annotation.Scheduled;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.LocalDateTime;
+import java.time.Duration;
 import java.time.ZonedDateTime; // ИЗМЕНЕНО
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Sends due reminders. Each run starts a few virtual-thread workers that claim due reminders in batches of
+ * {@code batch-size} with {@code FOR UPDATE SKIP LOCKED}, queue their emails and mark the batch sent with one update,
+ * each batch in its own short transaction. Nodes running this at the same time claim disjoint batches, so no reminder
+ * is sent twice, and a backlog is worked off batch by batch instead of in one transaction. A batch that fails is sent
+ * again one reminder at a time; a reminder that still fails is logged and marked sent, so it cannot hold up the
+ * reminders due after it.
+ */
 @Service
 public class ReminderTaskService {
 
+    private static final Logger logger = LoggerFactory.getLogger(ReminderTaskService.class);
+
     private final ReminderRepository reminderRepository;
     private final EmailService emailService;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int workers;
+    private final ExecutorService workerThreads = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("reminder-", 0).factory());
+    private final AtomicLong backlog = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private final Counter dispatched;
+    private final Counter failed;
+    private final Timer batchTimer;
 
-    public ReminderTaskService(ReminderRepository reminderRepository, EmailService emailService) {
+    public ReminderTaskService(ReminderRepository reminderRepository, EmailService emailService, PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                               @Value("${app.reminders.batch-size:500}") int batchSize,
+                               @Value("${app.reminders.workers:4}") int workers) {
         this.reminderRepository = reminderRepository;
         this.emailService = emailService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.workers = workers;
+        Gauge.builder("reminders.backlog", backlog, AtomicLong::get)
+                .description("Due reminders not yet sent, as of the last run")
+                .register(meterRegistry);
+        Gauge.builder("reminders.lag", lagSeconds, AtomicLong::get)
+                .description("How long the oldest unsent reminder has been due, as of the last run")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.dispatched = Counter.builder("reminders.dispatched")
+                .description("Reminders whose email was queued")
+                .register(meterRegistry);
+        this.failed = Counter.builder("reminders.failed")
+                .description("Reminders given up on because their email could not be queued")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("reminders.batch")
+                .description("Time to claim, queue and mark one batch of reminders")
+                .register(meterRegistry);
     }
 
-    @Scheduled(cron = "0 * * * * ?")
-    @Transactional
+    /**
+     * Sends every due reminder; triggered by the {@link DeadlineScheduler} when a reminder's time comes.
+     */
     public void processReminders() {
-        System.out.println("Checking reminders... " + LocalDateTime.now());
+        if (refreshBacklog() == 0) {
+            return;
+        }
+        logger.info("Found {} due reminders; oldest is {} s late.", backlog.get(), lagSeconds.get());
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < workers; i++) {
+            tasks.add(this::drain);
+        }
+        int sent = 0;
+        try {
+            for (Future<Integer> result : workerThreads.invokeAll(tasks)) {
+                sent += result.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.error("Reminder worker failed: {}", e.getCause().getMessage(), e.getCause());
+        }
+        refreshBacklog();
+        logger.info("Processed {} due reminders; {} still due.", sent, backlog.get());
+    }
 
-        // V-- ЭТА СТРОКА ИСПРАВЛЕНА --V
-        List<Reminder> dueReminders = reminderRepository.findAllByRemindAtBeforeAndIsSentFalse(ZonedDateTime.now());
+    @PreDestroy
+    public void stop() {
+        workerThreads.shutdownNow();
+    }
 
-        if (dueReminders.isEmpty()) {
-            return;
+    // Claims batches until one comes back short, i.e. nothing unclaimed is due any more.
+    private int drain() {
+        int total = 0;
+        int claimed;
+        do {
+            claimed = batchTimer.record(() -> dispatchBatch(ZonedDateTime.now()));
+            total += claimed;
+        } while (claimed == batchSize && !Thread.currentThread().isInterrupted());
+        return total;
+    }
+
+    private int dispatchBatch(ZonedDateTime now) {
+        List<Long> ids = new ArrayList<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                reminderRepository.claimDue(now, Limit.of(batchSize)).forEach(reminder -> ids.add(reminder.getId()));
+                dispatch(ids);
+            });
+            dispatched.increment(ids.size());
+        } catch (RuntimeException ex) {
+            if (ids.isEmpty()) {
+                throw ex;
+            }
+            // One bad reminder rolls back the whole batch, which would then be claimed first again on every run.
+            logger.warn("Reminder batch of {} failed ({}); sending its reminders one by one.", ids.size(), message(ex));
+            ids.forEach(this::dispatchOne);
         }
+        return ids.size();
+    }
 
-        System.out.printf("Found %d reminders to send.\n", dueReminders.size());
+    private void dispatchOne(Long id) {
+        try {
+            List<Long> claimed = new ArrayList<>(1);
+            transactionTemplate.executeWithoutResult(status -> {
+                reminderRepository.claimUnsent(List.of(id)).forEach(reminder -> claimed.add(reminder.getId()));
+                dispatch(claimed);
+            });
+            dispatched.increment(claimed.size());
+        } catch (RuntimeException ex) {
+            if (ex instanceof TransientDataAccessException || ex instanceof CannotCreateTransactionException) {
+                throw ex;
+            }
+            transactionTemplate.executeWithoutResult(status -> reminderRepository.markSent(List.of(id)));
+            failed.increment();
+            logger.error("Giving up on reminder {}: {}", id, message(ex));
+        }
+    }
 
-        for (Reminder reminder : dueReminders) {
+    private void dispatch(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        for (Reminder reminder : reminderRepository.findAllWithUserAndEventByIdIn(ids)) {
             emailService.sendReminderEmail(reminder.getUser(), reminder.getEvent());
-            reminder.setSent(true);
-            reminderRepository.save(reminder);
         }
+        reminderRepository.markSent(ids);
+    }
+
+    private static String message(RuntimeException ex) {
+        return NestedExceptionUtils.getMostSpecificCause(ex).getMessage();
+    }
+
+    private long refreshBacklog() {
+        ZonedDateTime now = ZonedDateTime.now();
+        Object[] row = reminderRepository.findBacklog(now).getFirst();
+        long count = ((Number) row[0]).longValue();
+        ZonedDateTime oldest = (ZonedDateTime) row[1];
+        backlog.set(count);
+        lagSeconds.set(oldest == null ? 0 : Math.max(0, Duration.between(oldest, now).toSeconds()));
+        return count;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,151 @@
+package de.saarland.events.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hierarchical timing wheel. Level 0 has one slot per tick, each higher level one slot per full turn of the level
+ * below; a timer sits in the lowest level whose turn still reaches its deadline and moves down a level each time the
+ * wheel reaches its slot, so scheduling, cancelling and advancing by one tick cost O(1) no matter how many timers are
+ * held. Timers are keyed: scheduling a key again replaces its timer. Deadlines are rounded up to the next tick, so a
+ * timer never fires early and at most one tick late. Not thread-safe.
+ */
+class TimingWheel<K> {
+
+    private static final class Entry<K> {
+        private final K key;
+        private final long tick;
+
+        private Entry(K key, long tick) {
+            this.key = key;
+            this.tick = tick;
+        }
+    }
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final long[] spans;
+    private final List<List<Entry<K>>> slots;
+    private final Map<K, Entry<K>> entries = new HashMap<>();
+    private final List<K> overdue = new ArrayList<>();
+    private long currentTick;
+
+    /**
+     * @param levels number of wheels; the horizon is about {@code tickMillis * wheelSize^levels}
+     */
+    TimingWheel(long tickMillis, int wheelSize, int levels, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.spans = new long[levels];
+        this.slots = new ArrayList<>(levels * wheelSize);
+        long span = 1;
+        for (int level = 0; level < levels; level++) {
+            spans[level] = span;
+            span = Math.multiplyExact(span, wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                slots.add(new ArrayList<>());
+            }
+        }
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+    }
+
+    /**
+     * Schedules or reschedules the key; a deadline already past fires on the next {@link #advance}.
+     *
+     * @return false if the deadline is beyond the horizon, in which case the key holds no timer
+     */
+    boolean schedule(K key, long deadlineMillis) {
+        entries.remove(key);
+        long tick = Math.ceilDiv(deadlineMillis, tickMillis);
+        Entry<K> entry = new Entry<>(key, tick);
+        if (!place(entry)) {
+            return false;
+        }
+        entries.put(key, entry);
+        return true;
+    }
+
+    boolean cancel(K key) {
+        // the entry stays in its slot and is skipped when reached
+        return entries.remove(key) != null;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Moves the wheel to {@code nowMillis}.
+     *
+     * @return the keys whose deadline has passed, in deadline order at tick precision
+     */
+    List<K> advance(long nowMillis) {
+        List<K> expired = new ArrayList<>();
+        expireOverdue(expired);
+        long target = Math.floorDiv(nowMillis, tickMillis);
+        while (currentTick < target && !entries.isEmpty()) {
+            currentTick++;
+            for (int level = spans.length - 1; level > 0; level--) {
+                if (currentTick % spans[level] == 0) {
+                    cascade(slot(level, currentTick / spans[level]));
+                }
+            }
+            // timers cascaded down to exactly this tick
+            expireOverdue(expired);
+            List<Entry<K>> due = slot(0, currentTick);
+            for (Entry<K> entry : due) {
+                if (entries.get(entry.key) == entry) {
+                    entries.remove(entry.key);
+                    expired.add(entry.key);
+                }
+            }
+            due.clear();
+        }
+        // with nothing scheduled there is nothing to visit in between
+        currentTick = Math.max(currentTick, target);
+        return expired;
+    }
+
+    private void expireOverdue(List<K> expired) {
+        for (K key : overdue) {
+            Entry<K> entry = entries.get(key);
+            if (entry != null && entry.tick <= currentTick) {
+                entries.remove(key);
+                expired.add(key);
+            }
+        }
+        overdue.clear();
+    }
+
+    private void cascade(List<Entry<K>> slot) {
+        List<Entry<K>> moving = new ArrayList<>(slot);
+        slot.clear();
+        for (Entry<K> entry : moving) {
+            if (entries.get(entry.key) == entry) {
+                place(entry);
+            }
+        }
+    }
+
+    // Lowest level whose slot for the tick is still ahead of the wheel and within one turn.
+    private boolean place(Entry<K> entry) {
+        if (entry.tick <= currentTick) {
+            overdue.add(entry.key);
+            return true;
+        }
+        for (int level = 0; level < spans.length; level++) {
+            long slotNumber = entry.tick / spans[level];
+            if (slotNumber - currentTick / spans[level] < wheelSize) {
+                slot(level, slotNumber).add(entry);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<Entry<K>> slot(int level, long slotNumber) {
+        return slots.get(level * wheelSize + (int) (slotNumber % wheelSize));
+    }
+}
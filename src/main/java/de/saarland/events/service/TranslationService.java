@@ -3,29 +3,257 @@ package de.saarland.events.service;
 import com.deepl.api.DeepLException;
 import com.deepl.api.TextResult;
 import com.deepl.api.Translator;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import de.saarland.events.model.CachedTranslation;
+import de.saarland.events.repository.CachedTranslationRepository;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * German-to-X translation through DeepL, cached by the SHA-256 of the text and the language pair: recent results in
+ * memory, every result in the {@code translation_cache} table so they survive restarts. Concurrent requests for the
+ * same text share one lookup and at most one DeepL call. Clients are limited in how many requests they may make that
+ * cannot be answered from memory; requests joining a lookup already under way are free.
+ */
 @Service
 public class TranslationService {
 
+    public static final int MAX_TEXTS_PER_REQUEST = 50;
+
+    private static final Logger logger = LoggerFactory.getLogger(TranslationService.class);
+    private static final String TRANSLATION_ERROR = "Translation Error";
+    private static final String SOURCE_LANG = "DE";
+    private static final int MAX_TRACKED_CLIENTS = 100_000;
+
+    private record Key(String contentHash, String sourceLang, String targetLang) {
+    }
+
     private final Translator translator;
+    private final CachedTranslationRepository cachedTranslationRepository;
+    private final ExecutorService lookupExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AsyncCache<Key, String> cache;
+    private final Cache<String, RateLimiter> clientLimiters;
+    private final RateLimiterConfig clientLimit;
+    private final Counter memoryHits;
+    private final Counter storeHits;
+    private final Counter deeplCalls;
+    private final Counter savedCharacters;
+    private final Counter deeplCharacters;
 
-    public TranslationService(@Value("${DEEPL_AUTH_KEY}") String deeplAuthKey) {
+    public TranslationService(@Value("${DEEPL_AUTH_KEY}") String deeplAuthKey, CachedTranslationRepository cachedTranslationRepository, MeterRegistry meterRegistry,
+                              @Value("${app.translate.cache.max-entries:10000}") long maxEntries,
+                              @Value("${app.translate.client-limit.requests:30}") int clientRequests,
+                              @Value("${app.translate.client-limit.period:PT1M}") Duration clientPeriod) {
         this.translator = new Translator(deeplAuthKey);
+        this.cachedTranslationRepository = cachedTranslationRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .executor(lookupExecutor)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "translations");
+        this.clientLimit = RateLimiterConfig.custom()
+                .limitForPeriod(clientRequests)
+                .limitRefreshPeriod(clientPeriod)
+                .timeoutDuration(Duration.ZERO)
+                .build();
+        // an idle client's limiter is full again after one period, so it can be dropped
+        this.clientLimiters = Caffeine.newBuilder()
+                .maximumSize(MAX_TRACKED_CLIENTS)
+                .expireAfterAccess(clientPeriod)
+                .build();
+        this.memoryHits = requests(meterRegistry, "memory");
+        this.storeHits = requests(meterRegistry, "store");
+        this.deeplCalls = requests(meterRegistry, "deepl");
+        this.savedCharacters = Counter.builder("translations.characters.saved")
+                .description("Characters answered from the cache instead of DeepL")
+                .register(meterRegistry);
+        this.deeplCharacters = Counter.builder("translations.characters.deepl")
+                .description("Characters sent to DeepL")
+                .register(meterRegistry);
     }
 
+    /**
+     * Translation for server-side use, without a client limit.
+     */
     public String translate(String text, String targetLang) {
+        return translate(text, targetLang, Optional.empty());
+    }
+
+    /**
+     * @param clientId identifies the caller for the per-client limit
+     * @throws io.github.resilience4j.ratelimiter.RequestNotPermitted if the client is over its limit
+     */
+    public String translate(String text, String targetLang, String clientId) {
+        return translate(text, targetLang, Optional.of(clientId));
+    }
+
+    private String translate(String text, String targetLang, Optional<String> clientId) {
         if (text == null || text.isEmpty()) {
             return "";
         }
+        if (targetLang == null || targetLang.isBlank()) {
+            throw new IllegalArgumentException("Target language is required.");
+        }
+        Key key = new Key(sha256(text), SOURCE_LANG, targetLang.trim().toUpperCase(Locale.ROOT));
+        // Checked before the lookup, so a rejected client never holds up the cache; asMap() reads are not counted.
+        if (clientId.isPresent() && !cache.asMap().containsKey(key)) {
+            RateLimiter.waitForPermission(clientLimiters.get(clientId.get(), this::newClientLimiter));
+        }
+        AtomicBoolean loading = new AtomicBoolean();
+        CompletableFuture<String> translation = cache.get(key, (k, executor) -> {
+            loading.set(true);
+            return CompletableFuture.supplyAsync(() -> load(k, text), executor);
+        });
+        if (!loading.get()) {
+            memoryHits.increment();
+            savedCharacters.increment(text.length());
+        }
+        try {
+            return translation.join();
+        } catch (CompletionException e) {
+            // drop the failure right away so a retry calls DeepL again
+            cache.asMap().remove(key, translation);
+            logger.warn("Error in translation: {}", e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+            return TRANSLATION_ERROR;
+        }
+    }
+
+    /**
+     * Translations of several texts into one language, in order, for background work. Texts found in either cache are
+     * not sent; the rest go to DeepL in a single multi-text request, so callers should stay within DeepL's limit of
+     * {@value #MAX_TEXTS_PER_REQUEST} texts. Unlike {@link #translate}, DeepL failures are thrown so the caller can
+     * retry, and no client limit applies.
+     */
+    public List<String> translateAll(List<String> texts, String targetLang) throws DeepLException, InterruptedException {
+        if (texts.size() > MAX_TEXTS_PER_REQUEST) {
+            throw new IllegalArgumentException("At most " + MAX_TEXTS_PER_REQUEST + " texts per request.");
+        }
+        String target = targetLang.trim().toUpperCase(Locale.ROOT);
+        List<Key> keys = texts.stream().map(text -> new Key(sha256(text), SOURCE_LANG, target)).toList();
+        Map<Key, String> translations = new HashMap<>();
+        Map<Key, String> missing = new LinkedHashMap<>();
+        for (int i = 0; i < texts.size(); i++) {
+            Key key = keys.get(i);
+            String text = texts.get(i);
+            // asMap() reads do not count towards the interactive hit ratio
+            CompletableFuture<String> cached = cache.asMap().get(key);
+            if (cached != null && cached.isDone() && !cached.isCompletedExceptionally()) {
+                translations.put(key, cached.join());
+                savedCharacters.increment(text.length());
+            } else {
+                missing.putIfAbsent(key, text);
+            }
+        }
+        if (!missing.isEmpty()) {
+            List<String> hashes = missing.keySet().stream().map(Key::contentHash).toList();
+            for (CachedTranslation stored : cachedTranslationRepository.findByContentHashInAndSourceLangAndTargetLang(hashes, SOURCE_LANG, target)) {
+                Key key = new Key(stored.getContentHash(), SOURCE_LANG, target);
+                translations.put(key, stored.getTranslatedText());
+                storeHits.increment();
+                savedCharacters.increment(missing.remove(key).length());
+            }
+        }
+        if (!missing.isEmpty()) {
+            List<String> sourceTexts = List.copyOf(missing.values());
+            deeplCalls.increment();
+            deeplCharacters.increment(sourceTexts.stream().mapToInt(String::length).sum());
+            List<TextResult> results = translator.translateText(sourceTexts, SOURCE_LANG, target);
+            int i = 0;
+            for (Key key : missing.keySet()) {
+                String translated = results.get(i++).getText();
+                translations.put(key, translated);
+                store(key, translated);
+                cache.put(key, CompletableFuture.completedFuture(translated));
+            }
+        }
+        return keys.stream().map(translations::get).toList();
+    }
+
+    private String load(Key key, String text) {
+        Optional<CachedTranslation> stored = cachedTranslationRepository.findByContentHashAndSourceLangAndTargetLang(key.contentHash(), key.sourceLang(), key.targetLang());
+        if (stored.isPresent()) {
+            storeHits.increment();
+            savedCharacters.increment(text.length());
+            return stored.get().getTranslatedText();
+        }
+        String translated = callDeepL(text, key);
+        store(key, translated);
+        return translated;
+    }
+
+    private void store(Key key, String translated) {
+        CachedTranslation entry = new CachedTranslation();
+        entry.setContentHash(key.contentHash());
+        entry.setSourceLang(key.sourceLang());
+        entry.setTargetLang(key.targetLang());
+        entry.setTranslatedText(translated);
+        entry.setCreatedAt(ZonedDateTime.now());
         try {
+            cachedTranslationRepository.save(entry);
+        } catch (DataIntegrityViolationException e) {
+            // another instance stored the same translation first
+        }
+    }
 
-            TextResult result = translator.translateText(text, "DE", targetLang);
+    private String callDeepL(String text, Key key) {
+        deeplCalls.increment();
+        deeplCharacters.increment(text.length());
+        try {
+            TextResult result = translator.translateText(text, key.sourceLang(), key.targetLang());
             return result.getText();
-        } catch (DeepLException | InterruptedException e) {
-            System.err.println("Error in translation: " + e.getMessage());
-            return "Translation Error";
+        } catch (DeepLException e) {
+            throw new CompletionException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+    }
+
+    private RateLimiter newClientLimiter(String clientId) {
+        return RateLimiter.of("translate:" + clientId, clientLimit);
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String source) {
+        return Counter.builder("translations.requests")
+                .description("Translation requests by where the result came from")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+
+    private static String sha256(String text) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
         }
     }
-}
\ No newline at end of file
+}
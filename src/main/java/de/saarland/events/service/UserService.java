@@ -13,9 +13,11 @@ import java.util.List;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final DataVersionRegistry dataVersionRegistry;
 
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository, DataVersionRegistry dataVersionRegistry) {
         this.userRepository = userRepository;
+        this.dataVersionRegistry = dataVersionRegistry;
     }
 
     @Transactional(readOnly = true)
@@ -30,5 +32,7 @@ public class UserService {
         }
 
         userRepository.deleteById(userId);
+        // the user's own events are deleted with them
+        dataVersionRegistry.eventsChanged();
     }
 }
\ No newline at end of file
@@ -1,10 +1,15 @@
 package de.saarland.events.specification;
 
+import de.saarland.events.dto.EventCursor;
 import de.saarland.events.model.EStatus;
 import de.saarland.events.model.Event;
 import de.saarland.events.model.Translation;
+import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
@@ -13,11 +18,14 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Component
 public class EventSpecification {
 
+    public static final Sort KEYSET_SORT = Sort.by(Sort.Order.desc("isPremium"), Sort.Order.asc("eventDate"), Sort.Order.asc("id"));
+
     public Specification<Event> findByCriteria(
             Optional<String> cityName,
             Optional<Long> categoryId,
@@ -73,4 +81,68 @@ public class EventSpecification {
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
         };
     }
-}
\ No newline at end of file
+
+    /**
+     * Restricts to events in the given cities (ID to distance in km). With {@code byDistance} the nearest cities
+     * come first, ahead of the order set by the other specifications.
+     */
+    public Specification<Event> inCities(Map<Long, Double> distanceByCityId, boolean byDistance) {
+        return (root, query, criteriaBuilder) -> {
+            if (distanceByCityId.isEmpty()) {
+                return criteriaBuilder.disjunction();
+            }
+            Path<Long> cityId = root.get("city").get("id");
+            if (byDistance) {
+                CriteriaBuilder.SimpleCase<Long, Double> distance = criteriaBuilder.selectCase(cityId);
+                distanceByCityId.forEach((id, km) -> distance.when(criteriaBuilder.literal(id), criteriaBuilder.literal(km)));
+                List<Order> orders = new ArrayList<>();
+                orders.add(criteriaBuilder.asc(distance.otherwise(criteriaBuilder.literal(Double.MAX_VALUE))));
+                orders.addAll(query.getOrderList());
+                query.orderBy(orders);
+            }
+            return cityId.in(distanceByCityId.keySet());
+        };
+    }
+
+    public Specification<Event> afterCursor(EventCursor cursor) {
+        return (root, query, criteriaBuilder) -> {
+            Predicate samePremium = criteriaBuilder.equal(root.get("isPremium"), cursor.premium());
+            Predicate laterDate = criteriaBuilder.and(samePremium, criteriaBuilder.greaterThan(root.get("eventDate"), cursor.eventDate()));
+            Predicate laterId = criteriaBuilder.and(
+                    samePremium,
+                    criteriaBuilder.equal(root.get("eventDate"), cursor.eventDate()),
+                    criteriaBuilder.greaterThan(root.get("id"), cursor.id())
+            );
+            if (cursor.premium()) {
+                return criteriaBuilder.or(criteriaBuilder.isFalse(root.get("isPremium")), laterDate, laterId);
+            }
+            return criteriaBuilder.or(laterDate, laterId);
+        };
+    }
+
+    public Specification<Event> withStatusOrderedByDate(EStatus status) {
+        return (root, query, criteriaBuilder) -> {
+            query.orderBy(criteriaBuilder.asc(root.get("eventDate")));
+            return criteriaBuilder.equal(root.get("status"), status);
+        };
+    }
+
+    public Specification<Event> byCityNameAndStatusIn(String cityName, List<EStatus> statuses) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.and(
+                criteriaBuilder.equal(root.get("city").get("name"), cityName),
+                root.get("status").in(statuses)
+        );
+    }
+
+    public Specification<Event> eventDateBefore(ZonedDateTime date) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.lessThan(root.get("eventDate"), date);
+    }
+
+    public Specification<Event> eventDateAfter(ZonedDateTime date) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.greaterThan(root.get("eventDate"), date);
+    }
+
+    public Specification<Event> createdBy(Long userId) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("createdBy").get("id"), userId);
+    }
+}
@@ -0,0 +1,39 @@
+package de.saarland.events.mapper;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvReaderTest {
+
+    @Test
+    void readsQuotedFieldsAcrossLines() throws IOException {
+        CsvReader csv = new CsvReader(new StringReader("\uFEFFid,name,description\r\n"
+                + "1,\"Fest, \"\"groß\"\"\",\"Zeile 1\r\nZeile 2\"\r\n"
+                + "2,,\n"
+                + "3,Markt,last"));
+
+        assertEquals(List.of("id", "name", "description"), csv.next());
+        assertEquals(1, csv.recordLine());
+        assertEquals(List.of("1", "Fest, \"groß\"", "Zeile 1\nZeile 2"), csv.next());
+        assertEquals(2, csv.recordLine());
+        assertEquals(List.of("2", "", ""), csv.next());
+        assertEquals(4, csv.recordLine());
+        assertEquals(List.of("3", "Markt", "last"), csv.next());
+        assertEquals(5, csv.recordLine());
+        assertNull(csv.next());
+    }
+
+    @Test
+    void rejectsUnterminatedQuote() throws IOException {
+        CsvReader csv = new CsvReader(new StringReader("a,b\n1,\"open\n"));
+        csv.next();
+
+        IOException ex = assertThrows(IOException.class, csv::next);
+        assertTrue(ex.getMessage().contains("line 2"));
+    }
+}
@@ -0,0 +1,72 @@
+package de.saarland.events.mapper;
+
+import de.saarland.events.model.Category;
+import de.saarland.events.model.City;
+import de.saarland.events.model.Event;
+import de.saarland.events.model.Translation;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IcsCalendarWriterTest {
+
+    @Test
+    void writesEscapedAndFoldedEvent() throws IOException {
+        City city = new City("Saarbrücken");
+        city.setLatitude(49.23);
+        city.setLongitude(6.99);
+        Event event = new Event();
+        event.setId(42L);
+        event.setCity(city);
+        event.setCategory(new Category("Konzert", null));
+        event.setEventDate(ZonedDateTime.of(2026, 7, 1, 20, 0, 0, 0, ZoneId.of("Europe/Berlin")));
+        event.setEndDate(event.getEventDate().plusHours(2));
+        event.getTranslations().add(translation("en", "Summer concert", "English"));
+        event.getTranslations().add(translation("de", "Sommerkonzert; draußen, am Saarufer", "Zeile 1\r\nZeile 2 " + "äöü€".repeat(30)));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IcsCalendarWriter writer = new IcsCalendarWriter(out, "fr", Instant.parse("2026-06-01T10:00:00Z"));
+        writer.begin("Saarland Events");
+        writer.event(event);
+        writer.end();
+        byte[] bytes = out.toByteArray();
+        String ics = new String(bytes, StandardCharsets.UTF_8);
+
+        assertTrue(ics.startsWith("BEGIN:VCALENDAR\r\nVERSION:2.0\r\n"));
+        assertTrue(ics.endsWith("END:VEVENT\r\nEND:VCALENDAR\r\n"));
+        assertTrue(ics.contains("\r\nUID:event-42@saarland-events\r\n"));
+        assertTrue(ics.contains("\r\nDTSTAMP:20260601T100000Z\r\n"));
+        assertTrue(ics.contains("\r\nDTSTART:20260701T180000Z\r\nDTEND:20260701T200000Z\r\n"));
+        assertTrue(ics.contains("\r\nSUMMARY:Sommerkonzert\\; draußen\\, am Saarufer\r\n"));
+        assertTrue(ics.contains("\r\nLOCATION:Saarbrücken\r\nGEO:49.23;6.99\r\nCATEGORIES:Konzert\r\n"));
+
+        List<String> lines = Arrays.asList(ics.split("\r\n"));
+        for (String line : lines) {
+            assertTrue(line.getBytes(StandardCharsets.UTF_8).length <= 75, () -> "line longer than 75 octets: " + line);
+        }
+        String unfolded = ics.replace("\r\n ", "");
+        assertTrue(unfolded.contains("\r\nDESCRIPTION:Zeile 1\\nZeile 2 " + "äöü€".repeat(30) + "\r\n"));
+    }
+
+    @Test
+    void escapesBackslashesFirst() {
+        assertEquals("a\\\\b\\,c\\;d\\ne", IcsCalendarWriter.escape("a\\b,c;d\ne"));
+    }
+
+    private static Translation translation(String locale, String name, String description) {
+        Translation translation = new Translation();
+        translation.setLocale(locale);
+        translation.setName(name);
+        translation.setDescription(description);
+        return translation;
+    }
+}
@@ -0,0 +1,153 @@
+package de.saarland.events.repository;
+
+import de.saarland.events.dto.EventResponseDto;
+import de.saarland.events.dto.TranslationDto;
+import de.saarland.events.mapper.CategoryMapper;
+import de.saarland.events.mapper.CityMapper;
+import de.saarland.events.mapper.EventMapper;
+import de.saarland.events.model.Category;
+import de.saarland.events.model.City;
+import de.saarland.events.model.EStatus;
+import de.saarland.events.model.Event;
+import de.saarland.events.model.Translation;
+import de.saarland.events.service.ReferenceDataRegistry;
+import de.saarland.events.specification.EventSpecification;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.lang.management.ManagementFactory;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares bytes allocated per listing page between the entity-plus-mapper path and the DTO projection.
+ */
+@DataJpaTest
+class EventProjectionAllocationTest {
+
+    private static final int EVENT_COUNT = 200;
+    private static final int WARMUP_ROUNDS = 30;
+    private static final int MEASURED_ROUNDS = 50;
+
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private CityRepository cityRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private final EventSpecification eventSpecification = new EventSpecification();
+    private EventMapper eventMapper;
+    private final Pageable pageable = PageRequest.of(1, 50);
+    private Specification<Event> spec;
+
+    @BeforeEach
+    void setUp() {
+        City city = new City("Homburg");
+        city.setLatitude(49.32);
+        city.setLongitude(7.34);
+        entityManager.persist(city);
+        Category category = new Category("Theater", "Bühne");
+        entityManager.persist(category);
+        ZonedDateTime start = ZonedDateTime.now().plusDays(1);
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            Event event = new Event();
+            event.setCity(city);
+            event.setCategory(i % 4 == 0 ? null : category);
+            event.setEventDate(start.plusHours(i));
+            event.setEndDate(start.plusHours(i + 2));
+            event.setImageUrl("https://example.org/" + i + ".jpg");
+            event.setStatus(EStatus.APPROVED);
+            event.setPremium(i % 7 == 0);
+            event.getTranslations().add(translation(event, "de", "Aufführung " + i));
+            event.getTranslations().add(translation(event, "en", "Performance " + i));
+            entityManager.persist(event);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        eventMapper = new EventMapper(new CategoryMapper(), new CityMapper(),
+                new ReferenceDataRegistry(cityRepository, categoryRepository, new CityMapper(), new CategoryMapper()));
+        spec = eventSpecification.findByCriteria(
+                Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty());
+    }
+
+    @Test
+    void projectionMatchesMapperOutput() {
+        List<EventResponseDto> mapped = eventRepository.findSlice(spec, pageable).map(eventMapper::toResponseDto).getContent();
+        entityManager.clear();
+        List<EventResponseDto> projected = eventRepository.findResponseSlice(spec, pageable, Optional.empty()).getContent();
+
+        assertEquals(mapped.size(), projected.size());
+        for (int i = 0; i < mapped.size(); i++) {
+            EventResponseDto expected = mapped.get(i);
+            EventResponseDto actual = projected.get(i);
+            assertEquals(expected.getId(), actual.getId());
+            assertEquals(expected.getEventDate().toInstant(), actual.getEventDate().toInstant());
+            assertEquals(expected.getEndDate().toInstant(), actual.getEndDate().toInstant());
+            assertEquals(expected.getImageUrl(), actual.getImageUrl());
+            assertEquals(expected.getStatus(), actual.getStatus());
+            assertEquals(expected.isPremium(), actual.isPremium());
+            assertEquals(expected.getCreatedByUserId(), actual.getCreatedByUserId());
+            assertEquals(expected.getCity().getName(), actual.getCity().getName());
+            assertEquals(expected.getCity().getLatitude(), actual.getCity().getLatitude());
+            assertEquals(expected.getCategory() == null, actual.getCategory() == null);
+            assertEquals(names(expected.getTranslations()), names(actual.getTranslations()));
+        }
+    }
+
+    @Test
+    void projectionAllocatesLessPerPage() {
+        Supplier<List<EventResponseDto>> entityPath = () -> {
+            entityManager.clear();
+            return eventRepository.findSlice(spec, pageable).map(eventMapper::toResponseDto).getContent();
+        };
+        Supplier<List<EventResponseDto>> projectionPath = () -> {
+            entityManager.clear();
+            return eventRepository.findResponseSlice(spec, pageable, Optional.empty()).getContent();
+        };
+
+        long entityBytes = bytesPerPage(entityPath);
+        long projectionBytes = bytesPerPage(projectionPath);
+
+        assertTrue(projectionBytes < entityBytes,
+                "projection allocated " + projectionBytes + " bytes per page, entity path " + entityBytes);
+    }
+
+    private static long bytesPerPage(Supplier<List<EventResponseDto>> page) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            page.get();
+        }
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            page.get();
+        }
+        return (threads.getThreadAllocatedBytes(threadId) - before) / MEASURED_ROUNDS;
+    }
+
+    private static List<String> names(List<TranslationDto> translations) {
+        return translations.stream().map(t -> t.getLocale() + ":" + t.getName()).sorted().toList();
+    }
+
+    private static Translation translation(Event event, String locale, String name) {
+        Translation translation = new Translation();
+        translation.setEvent(event);
+        translation.setLocale(locale);
+        translation.setName(name);
+        translation.setDescription("Eine Vorstellung im Saarländischen Staatstheater. ".repeat(8));
+        return translation;
+    }
+}
@@ -0,0 +1,127 @@
+package de.saarland.events.repository;
+
+import de.saarland.events.dto.EventResponseDto;
+import de.saarland.events.model.Category;
+import de.saarland.events.model.City;
+import de.saarland.events.model.EStatus;
+import de.saarland.events.model.Event;
+import de.saarland.events.model.Translation;
+import de.saarland.events.specification.EventSpecification;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class EventRepositoryStatementCountTest {
+
+    private static final int EVENT_COUNT = 30;
+
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final EventSpecification eventSpecification = new EventSpecification();
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        City city = new City("Saarbrücken");
+        entityManager.persist(city);
+        Category category = new Category("Musik", "Konzerte");
+        entityManager.persist(category);
+        ZonedDateTime start = ZonedDateTime.now().plusDays(1);
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            Event event = new Event();
+            event.setCity(city);
+            event.setCategory(category);
+            event.setEventDate(start.plusHours(i));
+            event.setStatus(EStatus.APPROVED);
+            event.setPremium(i % 5 == 0);
+            event.getTranslations().add(translation(event, "de", "Konzert " + i));
+            event.getTranslations().add(translation(event, "en", "Concert " + i));
+            entityManager.persist(event);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void listingPageUsesIdQueryPlusOneGraphQuery() {
+        Specification<Event> spec = eventSpecification.findByCriteria(
+                Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), Optional.of("konzert"));
+
+        Slice<Event> page = eventRepository.findSlice(spec, PageRequest.of(0, 10));
+
+        assertEquals(10, page.getNumberOfElements());
+        assertTrue(page.hasNext());
+        page.getContent().forEach(event -> {
+            assertEquals(2, event.getTranslations().size());
+            assertNotNull(event.getCity().getName());
+            assertNotNull(event.getCategory().getName());
+        });
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertTrue(page.getContent().get(0).isPremium());
+    }
+
+    @Test
+    void keysetPageKeepsRequestedOrder() {
+        List<Event> rows = eventRepository.findKeysetPage(
+                eventSpecification.withStatusOrderedByDate(EStatus.APPROVED), EventSpecification.KEYSET_SORT, 12);
+
+        assertEquals(12, rows.size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        for (int i = 1; i < rows.size(); i++) {
+            Event previous = rows.get(i - 1);
+            Event current = rows.get(i);
+            assertTrue(previous.isPremium() && !current.isPremium()
+                    || previous.isPremium() == current.isPremium() && !previous.getEventDate().isAfter(current.getEventDate()));
+        }
+    }
+
+    @Test
+    void localeProjectionReturnsOneTranslationWithGermanFallback() {
+        Specification<Event> spec = eventSpecification.withStatusOrderedByDate(EStatus.APPROVED);
+
+        List<EventResponseDto> english = eventRepository.findResponseSlice(spec, PageRequest.of(0, 10), Optional.of("en")).getContent();
+        List<EventResponseDto> french = eventRepository.findResponseSlice(spec, PageRequest.of(0, 10), Optional.of("fr")).getContent();
+
+        assertEquals(10, english.size());
+        english.forEach(dto -> {
+            assertEquals(1, dto.getTranslations().size());
+            assertEquals("en", dto.getTranslations().get(0).getLocale());
+        });
+        french.forEach(dto -> assertEquals("de", dto.getTranslations().get(0).getLocale()));
+        assertEquals(4, statistics.getPrepareStatementCount());
+    }
+
+    private static Translation translation(Event event, String locale, String name) {
+        Translation translation = new Translation();
+        translation.setEvent(event);
+        translation.setLocale(locale);
+        translation.setName(name);
+        translation.setDescription("Live im Saarland");
+        return translation;
+    }
+}
@@ -0,0 +1,123 @@
+package de.saarland.events.repository;
+
+import de.saarland.events.config.SecondLevelCacheConfig;
+import de.saarland.events.model.Category;
+import de.saarland.events.model.City;
+import de.saarland.events.model.EStatus;
+import de.saarland.events.model.Event;
+import de.saarland.events.model.Translation;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that {@code findById} is served from the second-level cache and that updates made through the
+ * persistence context replace the cached event and its translations.
+ */
+@DataJpaTest
+@Import(SecondLevelCacheConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EventSecondLevelCacheTest {
+
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private CityRepository cityRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private Statistics statistics;
+    private Long eventId;
+    private Long otherCityId;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        transaction.executeWithoutResult(status -> {
+            City city = cityRepository.save(new City("Merzig"));
+            otherCityId = cityRepository.save(new City("Saarlouis")).getId();
+            Category category = categoryRepository.save(new Category("Konzert", "Musik"));
+            Event event = new Event();
+            event.setCity(city);
+            event.setCategory(category);
+            event.setEventDate(ZonedDateTime.now().plusDays(3));
+            event.setStatus(EStatus.APPROVED);
+            event.getTranslations().add(translation(event, "de", "Sommerkonzert"));
+            event.getTranslations().add(translation(event, "en", "Summer concert"));
+            eventId = eventRepository.save(event).getId();
+        });
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transaction.executeWithoutResult(status -> {
+            eventRepository.deleteAll();
+            cityRepository.deleteAll();
+            categoryRepository.deleteAll();
+        });
+    }
+
+    @Test
+    void secondReadIsServedFromCache() {
+        assertEquals(List.of("de:Sommerkonzert", "en:Summer concert"), load());
+
+        statistics.clear();
+        assertEquals(List.of("de:Sommerkonzert", "en:Summer concert"), load());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getDomainDataRegionStatistics(SecondLevelCacheConfig.EVENTS).getHitCount() > 0);
+        assertTrue(statistics.getDomainDataRegionStatistics(SecondLevelCacheConfig.EVENT_TRANSLATIONS).getHitCount() > 0);
+    }
+
+    @Test
+    void updateReplacesCachedEventAndTranslations() {
+        load();
+        transaction.executeWithoutResult(status -> {
+            Event event = eventRepository.findById(eventId).orElseThrow();
+            event.setCity(cityRepository.getReferenceById(otherCityId));
+            event.getTranslations().clear();
+            event.getTranslations().add(translation(event, "de", "Herbstkonzert"));
+        });
+
+        assertEquals(List.of("de:Herbstkonzert"), load());
+        String city = transaction.execute(status -> eventRepository.findById(eventId).orElseThrow().getCity().getName());
+        assertEquals("Saarlouis", city);
+    }
+
+    private List<String> load() {
+        return transaction.execute(status -> eventRepository.findById(eventId).orElseThrow().getTranslations().stream()
+                .map(t -> t.getLocale() + ":" + t.getName())
+                .sorted()
+                .toList());
+    }
+
+    private static Translation translation(Event event, String locale, String name) {
+        Translation translation = new Translation();
+        translation.setEvent(event);
+        translation.setLocale(locale);
+        translation.setName(name);
+        translation.setDescription("Open Air");
+        return translation;
+    }
+}
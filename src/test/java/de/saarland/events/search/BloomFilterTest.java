@@ -0,0 +1,31 @@
+package de.saarland.events.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    void hasNoFalseNegativesAndFewFalsePositives() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("12|2026-07-01|sommerfest " + i);
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("12|2026-07-01|sommerfest " + i));
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("12|2026-07-02|sommerfest " + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 2_000, "false positive rate " + falsePositives / 100_000.0);
+        assertFalse(filter.isSaturated());
+
+        filter.put("one more");
+        assertTrue(filter.isSaturated());
+    }
+}
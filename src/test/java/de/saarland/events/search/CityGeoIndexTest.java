@@ -0,0 +1,60 @@
+package de.saarland.events.search;
+
+import de.saarland.events.dto.CityDto;
+import de.saarland.events.dto.GeoRadius;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CityGeoIndexTest {
+
+    @Test
+    void returnsCitiesInsideRadiusNearestFirst() {
+        CityGeoIndex index = CityGeoIndex.of(List.of(
+                city(1L, 49.2402, 6.9969),   // Saarbrücken
+                city(2L, 49.3266, 7.3386),   // Homburg
+                city(3L, 49.4433, 6.6375),   // Merzig
+                city(4L, 49.7499, 6.6371),   // Trier
+                city(5L, null, null)));
+
+        Map<Long, Double> within = index.within(new GeoRadius(49.2402, 6.9969, 40));
+
+        assertEquals(List.of(1L, 2L, 3L), List.copyOf(within.keySet()));
+        assertEquals(0.0, within.get(1L), 1e-9);
+        assertEquals(26.6, within.get(2L), 0.1);
+    }
+
+    @Test
+    void matchesBruteForceAcrossCellsAndAntimeridian() {
+        Random random = new Random(42);
+        List<CityDto> cities = new ArrayList<>();
+        for (long id = 1; id <= 2000; id++) {
+            cities.add(city(id, random.nextDouble() * 170 - 85, random.nextDouble() * 360 - 180));
+        }
+        CityGeoIndex index = CityGeoIndex.of(cities);
+
+        for (int i = 0; i < 200; i++) {
+            GeoRadius area = new GeoRadius(random.nextDouble() * 170 - 85, i % 10 == 0 ? 179.9 : random.nextDouble() * 360 - 180,
+                    1 + random.nextDouble() * (GeoRadius.MAX_RADIUS_KM - 1));
+            List<Long> expected = cities.stream()
+                    .filter(c -> CityGeoIndex.distanceKm(area.latitude(), area.longitude(), c.getLatitude(), c.getLongitude()) <= area.radiusKm())
+                    .map(CityDto::getId)
+                    .sorted()
+                    .toList();
+            assertEquals(expected, index.within(area).keySet().stream().sorted().toList());
+        }
+    }
+
+    private static CityDto city(Long id, Double latitude, Double longitude) {
+        CityDto city = new CityDto();
+        city.setId(id);
+        city.setLatitude(latitude);
+        city.setLongitude(longitude);
+        return city;
+    }
+}
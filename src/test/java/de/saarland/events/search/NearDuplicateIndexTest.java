@@ -0,0 +1,53 @@
+package de.saarland.events.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NearDuplicateIndexTest {
+
+    private static final String DESCRIPTION = "Großes Sommerfest mit Livemusik, Kinderprogramm und regionalen Spezialitäten "
+            + "auf dem Marktplatz. Eintritt frei.";
+    private static final String REWORDED = "Großes Sommerfest mit Live-Musik, Kinderprogramm und regionalen Spezialitäten "
+            + "am Marktplatz. Der Eintritt ist frei!";
+    private static final LocalDate DAY = LocalDate.of(2026, 7, 4);
+
+    @Test
+    void findsRewordedEventInSameCityNearTheDate() {
+        NearDuplicateIndex index = new NearDuplicateIndex();
+        index.rebuild(List.of(
+                document(1L, 10L, DAY, "Sommerfest Homburg 2026", DESCRIPTION),
+                document(2L, 10L, DAY, "Jazzabend", "Jazzkonzert mit dem Trio Blue Notes im Kulturhaus."),
+                document(3L, 20L, DAY, "Sommerfest Homburg 2026", DESCRIPTION),
+                document(4L, 10L, DAY.plusDays(5), "Sommerfest Homburg 2026", DESCRIPTION)));
+
+        Map<Long, Double> similar = index.similar(document(5L, 10L, DAY.plusDays(1), "Sommerfest in Homburg", REWORDED), 1, 0.75, 5);
+
+        assertEquals(List.of(1L), List.copyOf(similar.keySet()));
+        assertTrue(similar.get(1L) < 1.0);
+    }
+
+    @Test
+    void updatesAndRemovesEvents() {
+        NearDuplicateIndex index = new NearDuplicateIndex();
+        index.index(document(1L, 10L, DAY, "Sommerfest Homburg 2026", DESCRIPTION));
+        index.index(document(2L, 10L, DAY, "Sommerfest Homburg 2026", DESCRIPTION));
+        assertEquals(Map.of(2L, 1.0), index.similar(1L, 1, 0.75, 5));
+
+        index.index(document(2L, 10L, DAY, "Jazzabend", "Jazzkonzert mit dem Trio Blue Notes im Kulturhaus."));
+        assertTrue(index.similar(1L, 1, 0.75, 5).isEmpty());
+
+        index.remove(1L);
+        assertTrue(index.similar(1L, 1, 0.75, 5).isEmpty());
+        assertEquals(1, index.size());
+    }
+
+    private static NearDuplicateIndex.Document document(Long eventId, Long cityId, LocalDate day, String name, String description) {
+        return new NearDuplicateIndex.Document(eventId, cityId, day,
+                Map.of("de", SimHash.fingerprint("de", name, description).orElseThrow()));
+    }
+}
@@ -0,0 +1,72 @@
+package de.saarland.events.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DataVersionRegistryTest {
+
+    @Test
+    void changingNoEventsKeepsEveryValidator() {
+        DataVersionRegistry registry = new DataVersionRegistry(100);
+        registry.eventChanged(1L);
+        DataVersionRegistry.Validator events = registry.events();
+        DataVersionRegistry.Validator event = registry.event(1L);
+        List<Long> notified = new ArrayList<>();
+        registry.onEventChanged(notified::add);
+
+        registry.eventsChanged(Set.of());
+
+        assertEquals(events, registry.events());
+        assertEquals(event, registry.event(1L));
+        assertTrue(notified.isEmpty());
+    }
+
+    @Test
+    void changingAnEventBumpsItAndTheListingsOnly() {
+        DataVersionRegistry registry = new DataVersionRegistry(100);
+        DataVersionRegistry.Validator events = registry.events();
+        DataVersionRegistry.Validator changed = registry.event(1L);
+        DataVersionRegistry.Validator other = registry.event(2L);
+        List<Long> notified = new ArrayList<>();
+        registry.onEventChanged(notified::add);
+
+        registry.eventChanged(1L);
+
+        assertNotEquals(events, registry.events());
+        assertNotEquals(changed, registry.event(1L));
+        assertEquals(other, registry.event(2L));
+        assertEquals(List.of(1L), notified);
+    }
+
+    @Test
+    void removedEventNeverMatchesItsInitialValidator() {
+        DataVersionRegistry registry = new DataVersionRegistry(100);
+        DataVersionRegistry.Validator initial = registry.event(1L);
+
+        registry.eventRemoved(1L);
+
+        assertNotEquals(initial, registry.event(1L));
+    }
+
+    @Test
+    void prunedEventsFallBackToANewerVersion() {
+        DataVersionRegistry registry = new DataVersionRegistry(2);
+        DataVersionRegistry.Validator unchanged = registry.event(9L);
+        registry.eventChanged(1L);
+        registry.eventChanged(2L);
+        DataVersionRegistry.Validator second = registry.event(2L);
+
+        registry.eventChanged(3L);
+
+        DataVersionRegistry.Validator pruned = registry.event(2L);
+        assertNotEquals(second, pruned);
+        assertNotEquals(unchanged, registry.event(9L));
+        assertEquals(pruned, registry.event(2L));
+        assertEquals(pruned.lastModified(), registry.events().lastModified());
+    }
+}
@@ -0,0 +1,55 @@
+package de.saarland.events.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    private static final long START = 1_700_000_000_000L;
+
+    @Test
+    void firesEveryTimerInTheTickOfItsDeadline() {
+        TimingWheel<Integer> wheel = new TimingWheel<>(1000, 60, 3, START);
+        Random random = new Random(42);
+        Map<Integer, Long> deadlines = new HashMap<>();
+        for (int key = 0; key < 2000; key++) {
+            long deadline = START + random.nextLong(50 * 3_600_000L);
+            deadlines.put(key, deadline);
+            assertTrue(wheel.schedule(key, deadline));
+        }
+
+        Map<Integer, Long> firedAt = new HashMap<>();
+        for (long now = START; now <= START + 50 * 3_600_000L + 1000; now += 1000) {
+            for (Integer key : wheel.advance(now)) {
+                assertNull(firedAt.put(key, now));
+            }
+        }
+
+        assertEquals(deadlines.keySet(), firedAt.keySet());
+        deadlines.forEach((key, deadline) -> {
+            long fired = firedAt.get(key);
+            assertTrue(fired >= deadline, "fired early");
+            assertTrue(fired - deadline < 1000, "fired late");
+        });
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void replacesCancelsAndRejectsTimers() {
+        TimingWheel<String> wheel = new TimingWheel<>(1000, 60, 3, START);
+        wheel.schedule("a", START + 10_000);
+        wheel.schedule("a", START + 2 * 3_600_000L);
+        wheel.schedule("b", START + 20_000);
+        wheel.cancel("b");
+        wheel.schedule("c", START - 5_000);
+
+        assertEquals(List.of("c"), wheel.advance(START));
+        assertTrue(wheel.advance(START + 3_600_000L).isEmpty());
+        assertEquals(List.of("a"), wheel.advance(START + 2 * 3_600_000L));
+        assertFalse(wheel.schedule("d", START + 100 * 3_600_000L));
+        assertEquals(0, wheel.size());
+    }
+}